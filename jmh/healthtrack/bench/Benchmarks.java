@@ -0,0 +1,175 @@
+package healthtrack.bench;
+
+import healthtrack.metrics.MetricsRecorder;
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PatientCategory;
+import healthtrack.service.HealthSystem;
+import healthtrack.support.CommandLineOptions;
+import healthtrack.support.DemoData;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public final class Benchmarks {
+
+    private static final int CLINICS = 50;
+    private static final String DEFAULT_BASE_DATE = "2025-01-06";
+    private static long sink;
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int[] doctorScales = parseInts(options.getOrDefault("doctors", "10,1000,10000"));
+        int operations = Integer.parseInt(options.getOrDefault("operations", "20000"));
+        int maxThreads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        LocalDate baseDate = LocalDate.parse(options.getOrDefault("date", DEFAULT_BASE_DATE));
+        int footprint = Integer.parseInt(options.getOrDefault("footprint", "200000"));
+        boolean metrics = Boolean.parseBoolean(options.getOrDefault("metrics", "false"));
+
+        System.out.printf("%-28s %10s %10s %14s %14s%n", "operacion", "medicos", "citas", "ns/op", "ops/s");
+        for (int doctors : doctorScales) {
+            runConcurrentBooking(doctors, operations, maxThreads, seed, baseDate, metrics);
+        }
+        if (footprint > 0) {
+            runFootprint(footprint, seed, baseDate);
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private static void runConcurrentBooking(int doctorCount, int operations, int maxThreads, long seed,
+                                             LocalDate baseDate, boolean metrics) throws Exception {
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            HealthSystem system = new HealthSystem();
+            MetricsRecorder recorder = new MetricsRecorder();
+            if (metrics) {
+                system.setInstrumentation(recorder);
+            }
+            DemoData.loadScenario(system, Math.min(CLINICS, doctorCount), doctorCount, 0, seed, baseDate);
+            List<Doctor> doctors = system.listDoctors();
+            int horizon = DemoData.scenarioHorizon(doctorCount, operations);
+            int perThread = Math.max(1, operations / threads);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<List<Appointment>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Random random = new Random(seed + t);
+                futures.add(executor.submit(() -> {
+                    List<Appointment> accepted = new ArrayList<>();
+                    ready.countDown();
+                    go.await();
+                    for (int i = 0; i < perThread; i++) {
+                        Appointment appointment = randomAppointment(system, doctors, random, baseDate,
+                                horizon, "PT-" + random.nextInt(Math.max(1, operations / 2)));
+                        try {
+                            system.addAppointment(appointment);
+                            accepted.add(appointment);
+                        } catch (IllegalArgumentException ignored) {
+                        }
+                    }
+                    return accepted;
+                }));
+            }
+            ready.await();
+            long start = System.nanoTime();
+            go.countDown();
+            List<Appointment> accepted = new ArrayList<>();
+            for (Future<List<Appointment>> future : futures) {
+                accepted.addAll(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+            executor.shutdown();
+            report("concurrentBooking x" + threads, doctorCount, perThread * threads, elapsed, perThread * threads);
+            int conflicts = countDoubleBookings(accepted);
+            int pending = 0;
+            for (int depth : system.queueDepthByPriority().values()) {
+                pending += depth;
+            }
+            if (conflicts > 0 || pending != accepted.size()) {
+                throw new IllegalStateException("Se detectaron " + conflicts + " citas duplicadas y "
+                        + pending + " citas pendientes para " + accepted.size() + " aceptadas con " + threads + " hilos.");
+            }
+            if (metrics) {
+                System.out.print(recorder.snapshot().describe());
+            }
+        }
+    }
+
+    private static void runFootprint(int appointmentCount, long seed, LocalDate baseDate) {
+        long baseline = usedHeap();
+        HealthSystem system = new HealthSystem();
+        DemoData.loadScenario(system, CLINICS, 1000, appointmentCount, seed, baseDate);
+        long withSystem = usedHeap();
+        System.out.printf("%-28s %10s %10d %14.1f bytes/cita%n", "heap HealthSystem", "", appointmentCount,
+                (double) (withSystem - baseline) / Math.max(1, appointmentCount));
+        sink += system.previewAppointments(1).size();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int countDoubleBookings(List<Appointment> accepted) {
+        Set<String> doctorSlots = new HashSet<>();
+        Set<String> patientSlots = new HashSet<>();
+        int conflicts = 0;
+        for (Appointment appointment : accepted) {
+            if (!doctorSlots.add(appointment.doctor().id().trim().toLowerCase() + '@' + appointment.schedule())) {
+                conflicts++;
+            }
+            if (!patientSlots.add(appointment.patient().document().trim().toLowerCase() + '@' + appointment.schedule())) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    private static Appointment randomAppointment(HealthSystem system, List<Doctor> doctors, Random random,
+                                                 LocalDate baseDate, int horizon, String document) {
+        Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+        DoctorAvailability availability = doctor.availability();
+        LocalDate date = baseDate.plusDays(random.nextInt(horizon));
+        LocalDateTime schedule = LocalDateTime.of(date, availability.slotAt(random.nextInt(availability.slotCount())));
+        ClinicSite clinic = system.findClinic(doctor.clinicCode()).orElseThrow();
+        PatientCategory category = PatientCategory.values()[random.nextInt(PatientCategory.values().length)];
+        Patient patient = new Patient(document, "Paciente " + document, LocalDate.of(1980, 1, 1), category);
+        return new Appointment(patient, doctor, clinic, AppointmentType.GENERAL, schedule);
+    }
+
+    private static void report(String name, int doctors, int appointments, long nanos, long operations) {
+        double perOperation = operations == 0 ? 0 : (double) nanos / operations;
+        double perSecond = nanos == 0 ? 0 : operations * 1_000_000_000.0 / nanos;
+        System.out.printf("%-28s %10d %10d %14.1f %14.0f%n", name, doctors, appointments, perOperation, perSecond);
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Integer.parseInt(parts[i].trim());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package healthtrack.bench;
+
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.service.HealthSystem;
+import healthtrack.support.DemoData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = CatalogBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = CatalogBenchmark.BATCH)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CatalogBenchmark {
+
+    static final int BATCH = 100;
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 6);
+    private static final int CLINICS = 50;
+    private static final DoctorAvailability MORNINGS = new DoctorAvailability(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), LocalTime.of(8, 0), LocalTime.of(12, 0), 20);
+
+    @Param({"10", "1000", "10000"})
+    public int doctors;
+
+    @Param("42")
+    public long seed;
+
+    private final AtomicLong next = new AtomicLong();
+    private HealthSystem system;
+    private List<ClinicSite> clinics;
+
+    @Setup(Level.Iteration)
+    public void load() {
+        system = new HealthSystem();
+        DemoData.loadScenario(system, Math.min(CLINICS, doctors), doctors, 0, seed, BASE_DATE);
+        clinics = system.listClinics();
+    }
+
+    @Benchmark
+    public boolean addDoctor() {
+        long id = next.getAndIncrement();
+        ClinicSite clinic = clinics.get((int) (id % clinics.size()));
+        return system.addDoctor(new Doctor("JMH-" + id, "Médico " + id, "Pediatría", clinic.code(), MORNINGS));
+    }
+}
@@ -0,0 +1,182 @@
+package healthtrack.bench;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PatientCategory;
+import healthtrack.service.AppointmentQuery;
+import healthtrack.service.HealthSystem;
+import healthtrack.support.DemoData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HealthSystemBenchmark {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 6);
+    private static final int CLINICS = 50;
+    private static final int BATCH = 100;
+
+    @Param({"10", "1000", "10000"})
+    public int doctors;
+
+    @Param({"1000", "100000", "1000000"})
+    public int appointments;
+
+    @Param("42")
+    public long seed;
+
+    private HealthSystem system;
+    private List<Doctor> doctorList;
+    private int horizon;
+
+    @Setup(Level.Trial)
+    public void load() {
+        system = new HealthSystem();
+        DemoData.loadScenario(system, Math.min(CLINICS, doctors), doctors, appointments, seed, BASE_DATE);
+        doctorList = system.listDoctors();
+        horizon = DemoData.scenarioHorizon(doctors, appointments);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private SplittableRandom random;
+        private String prefix;
+        private long next;
+        private final List<Appointment> booked = new ArrayList<>();
+        private final List<Appointment> polled = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void seed(HealthSystemBenchmark benchmark, ThreadParams thread) {
+            random = new SplittableRandom(benchmark.seed + thread.getThreadIndex());
+            prefix = "JMH-" + thread.getThreadIndex() + "-";
+        }
+
+        @TearDown(Level.Iteration)
+        public void restore(HealthSystemBenchmark benchmark) {
+            for (Appointment appointment : booked) {
+                benchmark.system.cancelAppointment(appointment.patient().document(), appointment.schedule());
+            }
+            booked.clear();
+            for (Appointment appointment : polled) {
+                benchmark.system.addAppointment(appointment);
+            }
+            polled.clear();
+        }
+    }
+
+    @Benchmark
+    public void getAvailableTimeSlots(Cursor cursor, Blackhole blackhole) {
+        Doctor doctor = doctorList.get(cursor.random.nextInt(doctorList.size()));
+        blackhole.consume(system.getAvailableTimeSlots(doctor, BASE_DATE.plusDays(cursor.random.nextInt(horizon))));
+    }
+
+    @Benchmark
+    public List<LocalDate> getAvailableDates(Cursor cursor) {
+        Doctor doctor = doctorList.get(cursor.random.nextInt(doctorList.size()));
+        return system.getAvailableDates(doctor, 21);
+    }
+
+    @Benchmark
+    public void freeSlots(Cursor cursor, Blackhole blackhole) {
+        Doctor doctor = doctorList.get(cursor.random.nextInt(doctorList.size()));
+        blackhole.consume(system.freeSlots(doctor, BASE_DATE.atStartOfDay(), 21).hasNext());
+    }
+
+    @Benchmark
+    public List<Appointment> previewAppointments() {
+        return system.previewAppointments(30);
+    }
+
+    @Benchmark
+    public Object findEarliestSlots(Cursor cursor) {
+        return system.findEarliestSlots("Cardiología", null, BASE_DATE.plusDays(cursor.random.nextInt(horizon)).atStartOfDay(), 5);
+    }
+
+    @Benchmark
+    public List<Appointment> query() {
+        return system.query(AppointmentQuery.pending().withSpecialty("Pediatría").ofType(AppointmentType.GENERAL).limit(20));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public Appointment pollAppointment(Cursor cursor) {
+        Appointment appointment = system.pollAppointment();
+        if (appointment != null) {
+            cursor.polled.add(appointment);
+        }
+        return appointment;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public boolean addAppointment(Cursor cursor) {
+        Appointment appointment = randomAppointment(cursor);
+        try {
+            system.addAppointment(appointment);
+        } catch (IllegalArgumentException rejected) {
+            return false;
+        }
+        cursor.booked.add(appointment);
+        return true;
+    }
+
+    @Benchmark
+    public Optional<Appointment> bookAndCancel(Cursor cursor) {
+        Appointment appointment = randomAppointment(cursor);
+        try {
+            system.addAppointment(appointment);
+        } catch (IllegalArgumentException rejected) {
+            return Optional.empty();
+        }
+        return system.cancelAppointment(appointment.patient().document(), appointment.schedule());
+    }
+
+    private Appointment randomAppointment(Cursor cursor) {
+        Doctor doctor = doctorList.get(cursor.random.nextInt(doctorList.size()));
+        DoctorAvailability availability = doctor.availability();
+        LocalDateTime schedule = LocalDateTime.of(BASE_DATE.plusDays(cursor.random.nextInt(horizon)),
+                availability.slotAt(cursor.random.nextInt(availability.slotCount())));
+        String document = cursor.prefix + cursor.next++;
+        ClinicSite clinic = system.findClinic(doctor.clinicCode()).orElseThrow();
+        Patient patient = new Patient(document, "Paciente " + document, LocalDate.of(1980, 1, 1), PatientCategory.ADULTO);
+        return new Appointment(patient, doctor, clinic, AppointmentType.GENERAL, schedule);
+    }
+}
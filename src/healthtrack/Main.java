@@ -46,6 +46,7 @@ public final class Main {
                     case "7" -> showNextAppointment();
                     case "8" -> attendNextAppointment();
                     case "9" -> listUpcomingAppointments();
+                    case "10" -> showPatientAppointments();
                     case "0" -> System.out.println("Saliendo...");
                     default -> System.out.println("Opción no válida.");
                 }
@@ -66,6 +67,7 @@ public final class Main {
         System.out.println("7. Ver próxima cita");
         System.out.println("8. Atender próxima cita");
         System.out.println("9. Listar próximas 30 citas");
+        System.out.println("10. Consultar citas de un paciente");
         System.out.println("0. Salir");
         System.out.print("Selecciona una opción: ");
     }
@@ -106,7 +108,7 @@ public final class Main {
     }
 
     private static void registerDoctor() {
-        if (SYSTEM.listClinics().isEmpty()) {
+        if (!SYSTEM.catalog().hasClinics()) {
             System.out.println("Debes registrar al menos una sede primero.");
             return;
         }
@@ -210,11 +212,11 @@ public final class Main {
     }
 
     private static void registerAppointment() {
-        if (SYSTEM.listClinics().isEmpty()) {
+        if (!SYSTEM.catalog().hasClinics()) {
             System.out.println("No hay sedes registradas.");
             return;
         }
-        if (SYSTEM.listDoctors().isEmpty()) {
+        if (!SYSTEM.catalog().hasDoctors()) {
             System.out.println("No hay médicos registrados.");
             return;
         }
@@ -222,18 +224,27 @@ public final class Main {
         System.out.print("Documento del paciente: ");
         String document = SC.nextLine().trim();
 
-        System.out.print("Nombre completo: ");
-        String name = SC.nextLine().trim();
+        Patient registered = SYSTEM.findPatient(document).orElse(null);
+        String name;
+        LocalDate birthDate;
+        if (registered != null) {
+            System.out.println("Paciente registrado: " + registered.name());
+            name = registered.name();
+            birthDate = registered.birthDate();
+        } else {
+            System.out.print("Nombre completo: ");
+            name = SC.nextLine().trim();
 
-        System.out.print("Fecha de nacimiento (YYYY-MM-DD): ");
-        LocalDate birthDate = LocalDate.parse(SC.nextLine().trim());
+            System.out.print("Fecha de nacimiento (YYYY-MM-DD): ");
+            birthDate = LocalDate.parse(SC.nextLine().trim());
+        }
 
         PatientCategory category = PatientCategory.fromBirthDate(birthDate);
         System.out.print("¿Es una urgencia? (s/n): ");
         if (SC.nextLine().trim().equalsIgnoreCase("s")) {
             category = PatientCategory.URGENCIA;
         }
-        Patient patient = new Patient(document, name, birthDate, category);
+        Patient patient = SYSTEM.canonicalPatient(new Patient(document, name, birthDate, category));
 
         ClinicSite clinic = chooseClinic().orElse(null);
         if (clinic == null) {
@@ -307,6 +318,27 @@ public final class Main {
         }
     }
 
+    private static void showPatientAppointments() {
+        System.out.print("Documento del paciente: ");
+        String document = SC.nextLine().trim();
+        Patient patient = SYSTEM.findPatient(document).orElse(null);
+        if (patient == null) {
+            System.out.println("No hay un paciente registrado con ese documento.");
+            return;
+        }
+        System.out.println("=== Citas de " + patient.name() + " ===");
+        List<Appointment> pending = SYSTEM.pendingAppointmentsOf(document);
+        System.out.println("Pendientes:" + (pending.isEmpty() ? " ninguna" : ""));
+        for (Appointment appointment : pending) {
+            System.out.println("  " + appointment.describe());
+        }
+        List<Appointment> attended = SYSTEM.attendedAppointmentsOf(document);
+        System.out.println("Atendidas:" + (attended.isEmpty() ? " ninguna" : ""));
+        for (Appointment appointment : attended) {
+            System.out.println("  " + appointment.describe());
+        }
+    }
+
     private static Optional<ClinicSite> chooseClinic() {
         List<ClinicSite> clinics = SYSTEM.listClinics();
         if (clinics.isEmpty()) {
@@ -0,0 +1,23 @@
+package healthtrack.metrics;
+
+import healthtrack.service.BookingRejection;
+import healthtrack.service.HealthSystem;
+
+public interface Instrumentation {
+
+    Instrumentation NONE = new Instrumentation() {
+    };
+
+    default void attach(HealthSystem system) {
+    }
+
+    default long start() {
+        return 0L;
+    }
+
+    default void record(Operation operation, long start) {
+    }
+
+    default void bookingRejected(BookingRejection rejection, long start) {
+    }
+}
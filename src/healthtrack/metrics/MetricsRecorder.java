@@ -0,0 +1,59 @@
+package healthtrack.metrics;
+
+import healthtrack.model.PriorityLevel;
+import healthtrack.service.BookingRejection;
+import healthtrack.service.HealthSystem;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class MetricsRecorder implements Instrumentation {
+
+    private final LatencyHistogram[] operations = new LatencyHistogram[Operation.values().length];
+    private final LatencyHistogram[] rejections = new LatencyHistogram[BookingRejection.values().length];
+    private volatile HealthSystem system;
+
+    public MetricsRecorder() {
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void attach(HealthSystem system) {
+        this.system = system;
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void record(Operation operation, long start) {
+        operations[operation.ordinal()].record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void bookingRejected(BookingRejection rejection, long start) {
+        rejections[rejection.ordinal()].record(System.nanoTime() - start);
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<Operation, LatencySnapshot> operationSnapshots = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            operationSnapshots.put(operation, operations[operation.ordinal()].snapshot());
+        }
+        Map<BookingRejection, LatencySnapshot> rejectionSnapshots = new EnumMap<>(BookingRejection.class);
+        for (BookingRejection rejection : BookingRejection.values()) {
+            rejectionSnapshots.put(rejection, rejections[rejection.ordinal()].snapshot());
+        }
+        HealthSystem attached = system;
+        Map<String, Integer> byClinic = attached == null ? Map.of() : attached.queueDepthByClinic();
+        Map<PriorityLevel, Integer> byPriority = attached == null ? Map.of() : attached.queueDepthByPriority();
+        return new MetricsSnapshot(operationSnapshots, rejectionSnapshots, byClinic, byPriority);
+    }
+}
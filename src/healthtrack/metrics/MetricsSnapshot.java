@@ -0,0 +1,57 @@
+package healthtrack.metrics;
+
+import healthtrack.model.PriorityLevel;
+import healthtrack.service.BookingRejection;
+
+import java.util.Map;
+
+public final class MetricsSnapshot {
+
+    private final Map<Operation, LatencySnapshot> operations;
+    private final Map<BookingRejection, LatencySnapshot> rejections;
+    private final Map<String, Integer> queueDepthByClinic;
+    private final Map<PriorityLevel, Integer> queueDepthByPriority;
+
+    MetricsSnapshot(Map<Operation, LatencySnapshot> operations, Map<BookingRejection, LatencySnapshot> rejections,
+                    Map<String, Integer> queueDepthByClinic, Map<PriorityLevel, Integer> queueDepthByPriority) {
+        this.operations = Map.copyOf(operations);
+        this.rejections = Map.copyOf(rejections);
+        this.queueDepthByClinic = Map.copyOf(queueDepthByClinic);
+        this.queueDepthByPriority = Map.copyOf(queueDepthByPriority);
+    }
+
+    public LatencySnapshot operation(Operation operation) {
+        return operations.get(operation);
+    }
+
+    public LatencySnapshot rejection(BookingRejection rejection) {
+        return rejections.get(rejection);
+    }
+
+    public Map<String, Integer> queueDepthByClinic() {
+        return queueDepthByClinic;
+    }
+
+    public Map<PriorityLevel, Integer> queueDepthByPriority() {
+        return queueDepthByPriority;
+    }
+
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            out.append(operation).append(": ").append(operations.get(operation)).append('\n');
+        }
+        for (BookingRejection rejection : BookingRejection.values()) {
+            out.append("rechazo ").append(rejection).append(": ").append(rejections.get(rejection)).append('\n');
+        }
+        for (PriorityLevel priority : PriorityLevel.values()) {
+            out.append("cola ").append(priority).append(": ")
+                    .append(queueDepthByPriority.getOrDefault(priority, 0)).append('\n');
+        }
+        queueDepthByClinic.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> out.append("cola sede ").append(entry.getKey()).append(": ")
+                        .append(entry.getValue()).append('\n'));
+        return out.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package healthtrack.metrics;
+
+public enum Operation {
+    ADD_APPOINTMENT,
+    GET_AVAILABLE_TIME_SLOTS,
+    GET_AVAILABLE_DATES,
+    POLL_APPOINTMENT,
+    PREVIEW_APPOINTMENTS
+}
@@ -1,16 +1,21 @@
 package healthtrack.model;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
 public final class Appointment implements Comparable<Appointment> {
 
+    private static final int WEIGHT_SHIFT = 58;
+    private static final long MINUTE_OFFSET = 1L << 57;
+
     private final Patient patient;
     private final Doctor doctor;
     private final ClinicSite clinic;
     private final AppointmentType type;
     private final LocalDateTime schedule;
     private final PriorityLevel priority;
+    private final long sortKey;
 
     public Appointment(Patient patient, Doctor doctor, ClinicSite clinic, AppointmentType type, LocalDateTime schedule) {
         this.patient = Objects.requireNonNull(patient, "patient");
@@ -19,6 +24,7 @@ public final class Appointment implements Comparable<Appointment> {
         this.type = Objects.requireNonNull(type, "type");
         this.schedule = Objects.requireNonNull(schedule, "schedule");
         this.priority = PriorityLevel.fromCategory(patient.category());
+        this.sortKey = sortKey(priority, schedule);
     }
 
     public Patient patient() {
@@ -45,6 +51,10 @@ public final class Appointment implements Comparable<Appointment> {
         return priority;
     }
 
+    public long sortKey() {
+        return sortKey;
+    }
+
     public String describe() {
         return patient.name() + " (" + patient.document() + ") | " +
                 "Prioridad: " + priority + " | " +
@@ -56,7 +66,7 @@ public final class Appointment implements Comparable<Appointment> {
 
     @Override
     public int compareTo(Appointment other) {
-        int diff = Integer.compare(this.priority.weight(), other.priority.weight());
+        int diff = Long.compare(this.sortKey, other.sortKey);
         if (diff != 0) {
             return diff;
         }
@@ -83,5 +93,9 @@ public final class Appointment implements Comparable<Appointment> {
     public int hashCode() {
         return patient.document().hashCode() * 31 + schedule.hashCode();
     }
-}
 
+    private static long sortKey(PriorityLevel priority, LocalDateTime schedule) {
+        long epochMinute = Math.floorDiv(schedule.toEpochSecond(ZoneOffset.UTC), 60);
+        return ((long) priority.weight() << WEIGHT_SHIFT) + epochMinute + MINUTE_OFFSET;
+    }
+}
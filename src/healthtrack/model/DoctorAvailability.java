@@ -2,7 +2,7 @@ package healthtrack.model;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +14,7 @@ public final class DoctorAvailability {
     private final LocalTime startTime;
     private final LocalTime endTime;
     private final int slotDurationMinutes;
+    private final List<LocalTime> timeSlots;
 
     public DoctorAvailability(Set<DayOfWeek> availableDays, LocalTime startTime, LocalTime endTime, int slotDurationMinutes) {
         Objects.requireNonNull(availableDays, "availableDays");
@@ -30,12 +31,17 @@ public final class DoctorAvailability {
             throw new IllegalArgumentException("La duración del slot debe ser mayor a cero");
         }
         this.slotDurationMinutes = slotDurationMinutes;
+        this.timeSlots = buildTimeSlots();
     }
 
     public Set<DayOfWeek> availableDays() {
         return EnumSet.copyOf(availableDays);
     }
 
+    public Set<DayOfWeek> availableDaysView() {
+        return Collections.unmodifiableSet(availableDays);
+    }
+
     public LocalTime startTime() {
         return startTime;
     }
@@ -53,13 +59,42 @@ public final class DoctorAvailability {
     }
 
     public List<LocalTime> generateTimeSlots() {
-        List<LocalTime> slots = new ArrayList<>();
-        LocalTime current = startTime;
-        while (!current.isAfter(endTime.minusMinutes(slotDurationMinutes))) {
-            slots.add(current);
-            current = current.plusMinutes(slotDurationMinutes);
+        return timeSlots;
+    }
+
+    public int slotCount() {
+        return timeSlots.size();
+    }
+
+    public LocalTime slotAt(int index) {
+        return timeSlots.get(index);
+    }
+
+    public int slotIndexOf(LocalTime time) {
+        long offset = time.toNanoOfDay() - startTime.toNanoOfDay();
+        long slotNanos = slotNanos();
+        if (offset < 0 || offset % slotNanos != 0) {
+            return -1;
         }
-        return slots;
+        long index = offset / slotNanos;
+        return index < timeSlots.size() ? (int) index : -1;
+    }
+
+    public boolean isSlot(LocalTime time) {
+        return slotIndexOf(time) >= 0;
+    }
+
+    private List<LocalTime> buildTimeSlots() {
+        long count = (endTime.toNanoOfDay() - startTime.toNanoOfDay()) / slotNanos();
+        LocalTime[] slots = new LocalTime[(int) count];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = startTime.plusMinutes((long) i * slotDurationMinutes);
+        }
+        return List.of(slots);
+    }
+
+    private long slotNanos() {
+        return slotDurationMinutes * 60_000_000_000L;
     }
 }
 
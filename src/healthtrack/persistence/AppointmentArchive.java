@@ -0,0 +1,143 @@
+package healthtrack.persistence;
+
+import healthtrack.service.Keys;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public final class AppointmentArchive implements AutoCloseable {
+
+    private static final int RECORDS_PER_CHUNK = Integer.MAX_VALUE / ArchiveFormat.RECORD_BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private final long recordCount;
+    private final List<String> doctors = new ArrayList<>();
+    private final List<String> clinics = new ArrayList<>();
+    private final List<String> patients = new ArrayList<>();
+    private final Map<String, BitSet> doctorIndex = new HashMap<>();
+
+    private AppointmentArchive(Path archive) throws IOException {
+        channel = FileChannel.open(archive, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(ArchiveFormat.HEADER_BYTES);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < ArchiveFormat.HEADER_BYTES
+                || header.getInt() != ArchiveFormat.MAGIC || header.getInt() != ArchiveFormat.VERSION) {
+            channel.close();
+            throw new IOException("Formato de archivo histórico no reconocido: " + archive);
+        }
+        recordCount = header.getLong();
+        int stringCount = header.getInt();
+        loadStrings(ArchiveFormat.stringsPath(archive), stringCount);
+
+        int chunkCount = (int) ((recordCount + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+        chunks = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            long first = (long) i * RECORDS_PER_CHUNK;
+            long records = Math.min(RECORDS_PER_CHUNK, recordCount - first);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    ArchiveFormat.HEADER_BYTES + first * ArchiveFormat.RECORD_BYTES,
+                    records * ArchiveFormat.RECORD_BYTES);
+        }
+    }
+
+    public static AppointmentArchive open(Path archive) throws IOException {
+        return new AppointmentArchive(archive);
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    public void scan(LocalDate from, LocalDate to, Consumer<ArchivedAppointment> visitor) {
+        scan(null, from, to, visitor);
+    }
+
+    public void scanDoctor(String doctorId, LocalDate from, LocalDate to, Consumer<ArchivedAppointment> visitor) {
+        BitSet doctor = doctorIndex.get(Keys.of(doctorId));
+        if (doctor != null) {
+            scan(doctor, from, to, visitor);
+        }
+    }
+
+    public long count(LocalDate from, LocalDate to) {
+        long[] total = new long[1];
+        scan(from, to, record -> total[0]++);
+        return total[0];
+    }
+
+    public long countDoctor(String doctorId, LocalDate from, LocalDate to) {
+        long[] total = new long[1];
+        scanDoctor(doctorId, from, to, record -> total[0]++);
+        return total[0];
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    String doctorId(int index) {
+        return doctors.get(index);
+    }
+
+    String clinicCode(int index) {
+        return clinics.get(index);
+    }
+
+    String patientDocument(int index) {
+        return patients.get(index);
+    }
+
+    private void scan(BitSet doctor, LocalDate from, LocalDate to, Consumer<ArchivedAppointment> visitor) {
+        long fromMinute = ArchiveFormat.epochMinute(from.atStartOfDay());
+        long toMinute = ArchiveFormat.epochMinute(to.plusDays(1).atStartOfDay());
+        ArchivedAppointment cursor = new ArchivedAppointment(this);
+        for (ByteBuffer chunk : chunks) {
+            int limit = chunk.capacity();
+            for (int offset = 0; offset < limit; offset += ArchiveFormat.RECORD_BYTES) {
+                long minute = chunk.getLong(offset + ArchiveFormat.SCHEDULE_OFFSET);
+                if (minute < fromMinute || minute >= toMinute) {
+                    continue;
+                }
+                if (doctor != null && !doctor.get(chunk.getInt(offset + ArchiveFormat.DOCTOR_OFFSET))) {
+                    continue;
+                }
+                cursor.moveTo(chunk, offset);
+                visitor.accept(cursor);
+            }
+        }
+    }
+
+    private void loadStrings(Path stringsPath, int count) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stringsPath), 1 << 16))) {
+            for (int i = 0; i < count; i++) {
+                byte kind = in.readByte();
+                String value = new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+                switch (kind) {
+                    case ArchiveFormat.DOCTOR -> {
+                        doctorIndex.computeIfAbsent(Keys.of(value), key -> new BitSet()).set(doctors.size());
+                        doctors.add(value);
+                    }
+                    case ArchiveFormat.CLINIC -> clinics.add(value);
+                    default -> patients.add(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.service.HealthSystemListener;
+import healthtrack.service.Keys;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class AppointmentArchiveWriter implements HealthSystemListener, AutoCloseable {
+
+    private final FileChannel channel;
+    private final FileChannel stringsChannel;
+    private final DataOutputStream strings;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(ArchiveFormat.RECORD_BYTES * 4096);
+    private final Map<String, Integer> doctors = new HashMap<>();
+    private final Map<String, Integer> clinics = new HashMap<>();
+    private final Map<String, Integer> patients = new HashMap<>();
+    private final int[] idCounts = new int[3];
+    private long recordCount;
+    private long durableCount;
+    private int stringCount;
+    private long stringBytes;
+    private boolean closed;
+
+    private AppointmentArchiveWriter(Path archive) throws IOException {
+        Path stringsPath = ArchiveFormat.stringsPath(archive);
+        boolean existing = Files.exists(archive) && Files.size(archive) >= ArchiveFormat.HEADER_BYTES;
+        channel = FileChannel.open(archive, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (existing) {
+            ByteBuffer header = ByteBuffer.allocate(ArchiveFormat.HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() != ArchiveFormat.MAGIC || header.getInt() != ArchiveFormat.VERSION) {
+                channel.close();
+                throw new IOException("Formato de archivo histórico no reconocido: " + archive);
+            }
+            recordCount = header.getLong();
+            int expectedStrings = header.getInt();
+            header.getInt();
+            stringBytes = header.getLong();
+            loadStrings(stringsPath, expectedStrings);
+            channel.truncate(ArchiveFormat.HEADER_BYTES + recordCount * ArchiveFormat.RECORD_BYTES);
+            durableCount = recordCount;
+        }
+        stringsChannel = FileChannel.open(stringsPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        stringsChannel.truncate(stringBytes);
+        stringsChannel.position(stringBytes);
+        strings = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(stringsChannel), 1 << 16));
+        if (!existing) {
+            writeHeader();
+        }
+    }
+
+    public static AppointmentArchiveWriter open(Path archive) throws IOException {
+        return new AppointmentArchiveWriter(archive);
+    }
+
+    @Override
+    public void appointmentAttended(Appointment appointment) {
+        try {
+            append(appointment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void awaitDurable() {
+        try {
+            flushPending();
+        } catch (IOException e) {
+            throw new UncheckedIOException("El archivo histórico no pudo escribirse en disco.", e);
+        }
+    }
+
+    public synchronized void append(Appointment appointment) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("El archivo histórico está cerrado.");
+        }
+        int doctor = intern(doctors, ArchiveFormat.DOCTOR, appointment.doctor().id());
+        int clinic = intern(clinics, ArchiveFormat.CLINIC, appointment.clinic().code());
+        int patient = intern(patients, ArchiveFormat.PATIENT, appointment.patient().document());
+        if (buffer.remaining() < ArchiveFormat.RECORD_BYTES) {
+            writeBuffer();
+        }
+        buffer.putLong(ArchiveFormat.epochMinute(appointment.schedule()));
+        buffer.putInt(doctor);
+        buffer.putInt(clinic);
+        buffer.putInt(patient);
+        buffer.put((byte) appointment.type().ordinal());
+        buffer.put((byte) appointment.priority().ordinal());
+        buffer.putShort((short) 0);
+        recordCount++;
+    }
+
+    public synchronized void flush() throws IOException {
+        writeBuffer();
+        strings.flush();
+        stringsChannel.force(false);
+        channel.force(false);
+        writeHeader();
+        channel.force(false);
+        durableCount = recordCount;
+    }
+
+    private synchronized void flushPending() throws IOException {
+        if (!closed && durableCount != recordCount) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        strings.close();
+        channel.close();
+    }
+
+    private int intern(Map<String, Integer> table, byte kind, String value) throws IOException {
+        String key = Keys.of(value);
+        Integer id = table.get(key);
+        if (id != null) {
+            return id;
+        }
+        int next = idCounts[kind]++;
+        table.put(key, next);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        strings.writeByte(kind);
+        strings.writeInt(bytes.length);
+        strings.write(bytes);
+        stringCount++;
+        stringBytes += 1 + 4 + bytes.length;
+        return next;
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        long position = ArchiveFormat.HEADER_BYTES
+                + (recordCount - buffer.remaining() / ArchiveFormat.RECORD_BYTES) * ArchiveFormat.RECORD_BYTES;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ArchiveFormat.HEADER_BYTES);
+        header.putInt(ArchiveFormat.MAGIC);
+        header.putInt(ArchiveFormat.VERSION);
+        header.putLong(recordCount);
+        header.putInt(stringCount);
+        header.putInt(0);
+        header.putLong(stringBytes);
+        header.flip();
+        channel.write(header, 0);
+    }
+
+    private void loadStrings(Path stringsPath, int expected) throws IOException {
+        if (!Files.exists(stringsPath)) {
+            throw new IOException("Falta la tabla de identificadores del archivo histórico: " + stringsPath);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stringsPath)))) {
+            for (int i = 0; i < expected; i++) {
+                byte kind = in.readByte();
+                byte[] bytes = in.readNBytes(in.readInt());
+                if (kind != ArchiveFormat.DOCTOR && kind != ArchiveFormat.CLINIC) {
+                    kind = ArchiveFormat.PATIENT;
+                }
+                Map<String, Integer> table = switch (kind) {
+                    case ArchiveFormat.DOCTOR -> doctors;
+                    case ArchiveFormat.CLINIC -> clinics;
+                    default -> patients;
+                };
+                table.putIfAbsent(Keys.of(new String(bytes, StandardCharsets.UTF_8)), idCounts[kind]++);
+                stringCount++;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Tabla de identificadores incompleta: " + stringsPath, e);
+        }
+    }
+}
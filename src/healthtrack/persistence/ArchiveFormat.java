@@ -0,0 +1,39 @@
+package healthtrack.persistence;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+final class ArchiveFormat {
+
+    static final int MAGIC = 0x48544152;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 24;
+
+    static final byte DOCTOR = 0;
+    static final byte CLINIC = 1;
+    static final byte PATIENT = 2;
+
+    static final int SCHEDULE_OFFSET = 0;
+    static final int DOCTOR_OFFSET = 8;
+    static final int CLINIC_OFFSET = 12;
+    static final int PATIENT_OFFSET = 16;
+    static final int TYPE_OFFSET = 20;
+    static final int PRIORITY_OFFSET = 21;
+
+    private ArchiveFormat() {
+    }
+
+    static Path stringsPath(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + ".strings");
+    }
+
+    static long epochMinute(LocalDateTime schedule) {
+        return Math.floorDiv(schedule.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static LocalDateTime schedule(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
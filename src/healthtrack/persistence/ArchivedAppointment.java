@@ -0,0 +1,54 @@
+package healthtrack.persistence;
+
+import healthtrack.model.AppointmentType;
+import healthtrack.model.PriorityLevel;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+public final class ArchivedAppointment {
+
+    private static final AppointmentType[] TYPES = AppointmentType.values();
+    private static final PriorityLevel[] PRIORITIES = PriorityLevel.values();
+
+    private final AppointmentArchive archive;
+    private ByteBuffer chunk;
+    private int offset;
+
+    ArchivedAppointment(AppointmentArchive archive) {
+        this.archive = archive;
+    }
+
+    void moveTo(ByteBuffer chunk, int offset) {
+        this.chunk = chunk;
+        this.offset = offset;
+    }
+
+    public long scheduleEpochMinute() {
+        return chunk.getLong(offset + ArchiveFormat.SCHEDULE_OFFSET);
+    }
+
+    public LocalDateTime schedule() {
+        return ArchiveFormat.schedule(scheduleEpochMinute());
+    }
+
+    public String doctorId() {
+        return archive.doctorId(chunk.getInt(offset + ArchiveFormat.DOCTOR_OFFSET));
+    }
+
+    public String clinicCode() {
+        return archive.clinicCode(chunk.getInt(offset + ArchiveFormat.CLINIC_OFFSET));
+    }
+
+    public String patientDocument() {
+        return archive.patientDocument(chunk.getInt(offset + ArchiveFormat.PATIENT_OFFSET));
+    }
+
+    public AppointmentType type() {
+        return TYPES[chunk.get(offset + ArchiveFormat.TYPE_OFFSET)];
+    }
+
+    public PriorityLevel priority() {
+        return PRIORITIES[chunk.get(offset + ArchiveFormat.PRIORITY_OFFSET)];
+    }
+}
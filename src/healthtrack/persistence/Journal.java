@@ -0,0 +1,290 @@
+package healthtrack.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+final class Journal implements AutoCloseable {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    interface RecordHandler {
+        void accept(byte type, DataInputStream body) throws IOException;
+    }
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasPending = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+    private final Object ioLock = new Object();
+    private final Thread flusher;
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long nextSeq;
+    private long pendingSeq;
+    private long durableSeq;
+    private IOException failure;
+    private boolean closed;
+    private FileChannel segment;
+    private long segmentFirstSeq;
+
+    Journal(Path directory, long nextSeq) throws IOException {
+        this.directory = directory;
+        this.nextSeq = nextSeq;
+        this.pendingSeq = nextSeq - 1;
+        this.durableSeq = nextSeq - 1;
+        this.segment = openSegment(nextSeq);
+        this.flusher = new Thread(this::flushLoop, "healthtrack-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    long append(byte type, byte[] body) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("El journal está cerrado.");
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("El journal no pudo escribirse en disco.", failure);
+            }
+            long seq = nextSeq++;
+            writeFrame(pending, seq, type, body);
+            pendingSeq = seq;
+            hasPending.signal();
+            return seq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastSeq() {
+        lock.lock();
+        try {
+            return nextSeq - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void awaitDurable(long seq) throws IOException {
+        lock.lock();
+        try {
+            while (durableSeq < seq && failure == null) {
+                durable.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long rotate() throws IOException {
+        synchronized (ioLock) {
+            long upTo = writeBatch();
+            segment.close();
+            segment = openSegment(upTo + 1);
+            return upTo;
+        }
+    }
+
+    void deleteSegmentsUpTo(long seq) throws IOException {
+        synchronized (ioLock) {
+            for (Segment existing : segments(directory)) {
+                if (existing.firstSeq <= seq && existing.firstSeq != segmentFirstSeq) {
+                    Files.deleteIfExists(existing.path);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            hasPending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (ioLock) {
+            writeBatch();
+            segment.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    static long replay(Path directory, long afterSeq, RecordHandler handler) throws IOException {
+        long lastSeq = afterSeq;
+        for (Segment existing : segments(directory)) {
+            byte[] data = Files.readAllBytes(existing.path);
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            CRC32 crc = new CRC32();
+            int validEnd = 0;
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < 9 || length > buffer.remaining()) {
+                    break;
+                }
+                crc.reset();
+                crc.update(data, buffer.position(), length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                long seq = buffer.getLong();
+                byte type = buffer.get();
+                int bodyLength = length - 9;
+                if (seq > afterSeq) {
+                    handler.accept(type, new DataInputStream(new ByteArrayInputStream(data, buffer.position(), bodyLength)));
+                    lastSeq = Math.max(lastSeq, seq);
+                }
+                buffer.position(buffer.position() + bodyLength);
+                validEnd = buffer.position();
+            }
+            if (validEnd < data.length) {
+                truncate(existing.path, validEnd);
+            }
+        }
+        return lastSeq;
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(true);
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            lock.lock();
+            try {
+                while (pending.size() == 0 && !closed) {
+                    hasPending.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                synchronized (ioLock) {
+                    writeBatch();
+                }
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    durable.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    private long writeBatch() throws IOException {
+        ByteArrayOutputStream batch;
+        long upTo;
+        lock.lock();
+        try {
+            batch = pending;
+            upTo = pendingSeq;
+            pending = new ByteArrayOutputStream(Math.max(32, batch.size()));
+        } finally {
+            lock.unlock();
+        }
+        if (batch.size() > 0) {
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+            while (buffer.hasRemaining()) {
+                segment.write(buffer);
+            }
+            segment.force(false);
+        }
+        lock.lock();
+        try {
+            durableSeq = Math.max(durableSeq, upTo);
+            durable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return upTo;
+    }
+
+    private FileChannel openSegment(long firstSeq) throws IOException {
+        segmentFirstSeq = firstSeq;
+        return FileChannel.open(segmentPath(directory, firstSeq),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static void writeFrame(ByteArrayOutputStream out, long seq, byte type, byte[] body) {
+        ByteBuffer record = ByteBuffer.allocate(9 + body.length);
+        record.putLong(seq).put(type).put(body);
+        CRC32 crc = new CRC32();
+        crc.update(record.array());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(record.capacity()).putInt((int) crc.getValue());
+        out.writeBytes(header.array());
+        out.writeBytes(record.array());
+    }
+
+    private static Path segmentPath(Path directory, long firstSeq) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSeq, SUFFIX));
+    }
+
+    private static List<Segment> segments(Path directory) throws IOException {
+        List<Segment> result = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(PREFIX) && name.endsWith(SUFFIX)) {
+                    String digits = name.substring(PREFIX.length(), name.length() - SUFFIX.length());
+                    result.add(new Segment(path, Long.parseLong(digits)));
+                }
+            });
+        }
+        result.sort((a, b) -> Long.compare(a.firstSeq, b.firstSeq));
+        return result;
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long firstSeq;
+
+        private Segment(Path path, long firstSeq) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.service.HealthSystem;
+import healthtrack.service.HealthSystemListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class PersistentHealthSystem implements AutoCloseable {
+
+    private final Path directory;
+    private final HealthSystem system;
+    private final Journal journal;
+    private final HealthSystemListener listener;
+    private final ScheduledExecutorService snapshots;
+    private final Object snapshotLock = new Object();
+
+    private PersistentHealthSystem(Path directory, HealthSystem system, Journal journal,
+                                   HealthSystemListener listener, Duration snapshotInterval) {
+        this.directory = directory;
+        this.system = system;
+        this.journal = journal;
+        this.listener = listener;
+        if (snapshotInterval == null) {
+            this.snapshots = null;
+        } else {
+            this.snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "healthtrack-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = snapshotInterval.toMillis();
+            this.snapshots.scheduleWithFixedDelay(this::snapshotQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static PersistentHealthSystem open(Path directory) throws IOException {
+        return open(directory, Duration.ofMinutes(10));
+    }
+
+    public static PersistentHealthSystem open(Path directory, Duration snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+        HealthSystem system = new HealthSystem();
+        long snapshotSeq = SnapshotFile.loadLatest(directory, system);
+        long lastSeq = Journal.replay(directory, snapshotSeq, (type, body) -> apply(system, type, body));
+        Journal journal = new Journal(directory, lastSeq + 1);
+        JournalListener listener = new JournalListener(journal);
+        system.addListener(listener);
+        return new PersistentHealthSystem(directory, system, journal, listener, snapshotInterval);
+    }
+
+    public HealthSystem system() {
+        return system;
+    }
+
+    public void sync() throws IOException {
+        journal.awaitDurable(journal.lastSeq());
+    }
+
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long seq = journal.rotate();
+            SnapshotFile.write(directory, seq, system);
+            SnapshotFile.deleteOlderThan(directory, seq);
+            journal.deleteSegmentsUpTo(seq);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (snapshots != null) {
+            snapshots.shutdownNow();
+        }
+        system.removeListener(listener);
+        journal.close();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException e) {
+            System.err.println("No se pudo escribir el snapshot: " + e.getMessage());
+        }
+    }
+
+    private static void apply(HealthSystem system, byte type, DataInputStream body) throws IOException {
+        try {
+            switch (type) {
+                case RecordCodec.CLINIC -> system.addClinic(RecordCodec.readClinic(body));
+                case RecordCodec.DOCTOR -> system.addDoctor(RecordCodec.readDoctor(body));
+                case RecordCodec.APPOINTMENT -> {
+                    Appointment appointment = RecordCodec.readAppointment(body, system);
+                    if (appointment != null) {
+                        system.addAppointment(appointment);
+                    }
+                }
+                case RecordCodec.ATTENDED -> {
+                    String document = body.readUTF();
+                    LocalDateTime schedule = RecordCodec.readSchedule(body);
+                    system.attendAppointment(document, schedule);
+                }
+                case RecordCodec.CANCELLED -> {
+                    String document = body.readUTF();
+                    LocalDateTime schedule = RecordCodec.readSchedule(body);
+                    system.cancelAppointment(document, schedule);
+                }
+                case RecordCodec.CLEARED -> system.clearAll();
+                default -> throw new IOException("Tipo de registro desconocido en el journal: " + type);
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    private static final class JournalListener implements HealthSystemListener {
+
+        private final Journal journal;
+        private final ThreadLocal<long[]> lastAppended = ThreadLocal.withInitial(() -> new long[1]);
+
+        private JournalListener(Journal journal) {
+            this.journal = journal;
+        }
+
+        @Override
+        public void clinicAdded(ClinicSite clinic) {
+            append(RecordCodec.CLINIC, out -> RecordCodec.writeClinic(out, clinic));
+        }
+
+        @Override
+        public void doctorAdded(Doctor doctor) {
+            append(RecordCodec.DOCTOR, out -> RecordCodec.writeDoctor(out, doctor));
+        }
+
+        @Override
+        public void appointmentAdded(Appointment appointment) {
+            append(RecordCodec.APPOINTMENT, out -> RecordCodec.writeAppointment(out, appointment));
+        }
+
+        @Override
+        public void appointmentAttended(Appointment appointment) {
+            append(RecordCodec.ATTENDED, out -> {
+                out.writeUTF(appointment.patient().document());
+                RecordCodec.writeSchedule(out, appointment.schedule());
+            });
+        }
+
+        @Override
+        public void appointmentCancelled(Appointment appointment) {
+            append(RecordCodec.CANCELLED, out -> {
+                out.writeUTF(appointment.patient().document());
+                RecordCodec.writeSchedule(out, appointment.schedule());
+            });
+        }
+
+        @Override
+        public void cleared() {
+            append(RecordCodec.CLEARED, out -> {
+            });
+        }
+
+        @Override
+        public void awaitDurable() {
+            long[] last = lastAppended.get();
+            if (last[0] == 0) {
+                return;
+            }
+            try {
+                journal.awaitDurable(last[0]);
+            } catch (IOException e) {
+                throw new UncheckedIOException("El journal no pudo escribirse en disco.", e);
+            } finally {
+                last[0] = 0;
+            }
+        }
+
+        private void append(byte type, BodyWriter writer) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writer.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long[] last = lastAppended.get();
+            last[0] = Math.max(last[0], journal.append(type, bytes.toByteArray()));
+        }
+    }
+
+    private interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,114 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PatientCategory;
+import healthtrack.service.HealthSystem;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+final class RecordCodec {
+
+    static final byte CLINIC = 1;
+    static final byte DOCTOR = 2;
+    static final byte APPOINTMENT = 3;
+    static final byte ATTENDED = 4;
+    static final byte CLEARED = 5;
+    static final byte CANCELLED = 6;
+
+    private RecordCodec() {
+    }
+
+    static void writeClinic(DataOutput out, ClinicSite clinic) throws IOException {
+        out.writeUTF(clinic.code());
+        out.writeUTF(clinic.name());
+        out.writeUTF(clinic.city());
+    }
+
+    static ClinicSite readClinic(DataInput in) throws IOException {
+        return new ClinicSite(in.readUTF(), in.readUTF(), in.readUTF());
+    }
+
+    static void writeDoctor(DataOutput out, Doctor doctor) throws IOException {
+        out.writeUTF(doctor.id());
+        out.writeUTF(doctor.name());
+        out.writeUTF(doctor.specialty());
+        out.writeUTF(doctor.clinicCode());
+        DoctorAvailability availability = doctor.availability();
+        int days = 0;
+        for (DayOfWeek day : availability.availableDaysView()) {
+            days |= 1 << day.ordinal();
+        }
+        out.writeByte(days);
+        out.writeLong(availability.startTime().toNanoOfDay());
+        out.writeLong(availability.endTime().toNanoOfDay());
+        out.writeInt(availability.slotDurationMinutes());
+    }
+
+    static Doctor readDoctor(DataInput in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String specialty = in.readUTF();
+        String clinicCode = in.readUTF();
+        int days = in.readUnsignedByte();
+        Set<DayOfWeek> availableDays = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((days & (1 << day.ordinal())) != 0) {
+                availableDays.add(day);
+            }
+        }
+        LocalTime start = LocalTime.ofNanoOfDay(in.readLong());
+        LocalTime end = LocalTime.ofNanoOfDay(in.readLong());
+        int slotDuration = in.readInt();
+        return new Doctor(id, name, specialty, clinicCode, new DoctorAvailability(availableDays, start, end, slotDuration));
+    }
+
+    static void writeAppointment(DataOutput out, Appointment appointment) throws IOException {
+        Patient patient = appointment.patient();
+        out.writeUTF(patient.document());
+        out.writeUTF(patient.name());
+        out.writeLong(patient.birthDate().toEpochDay());
+        out.writeByte(patient.category().ordinal());
+        out.writeUTF(appointment.doctor().id());
+        out.writeUTF(appointment.clinic().code());
+        out.writeByte(appointment.type().ordinal());
+        writeSchedule(out, appointment.schedule());
+    }
+
+    static Appointment readAppointment(DataInput in, HealthSystem system) throws IOException {
+        Patient patient = new Patient(in.readUTF(), in.readUTF(),
+                LocalDate.ofEpochDay(in.readLong()), PatientCategory.values()[in.readUnsignedByte()]);
+        String doctorId = in.readUTF();
+        String clinicCode = in.readUTF();
+        AppointmentType type = AppointmentType.values()[in.readUnsignedByte()];
+        LocalDateTime schedule = readSchedule(in);
+        Doctor doctor = system.findDoctor(doctorId).orElse(null);
+        ClinicSite clinic = system.findClinic(clinicCode).orElse(null);
+        if (doctor == null || clinic == null) {
+            return null;
+        }
+        return new Appointment(patient, doctor, clinic, type, schedule);
+    }
+
+    static void writeSchedule(DataOutput out, LocalDateTime schedule) throws IOException {
+        out.writeLong(schedule.toLocalDate().toEpochDay());
+        out.writeLong(schedule.toLocalTime().toNanoOfDay());
+    }
+
+    static LocalDateTime readSchedule(DataInput in) throws IOException {
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+    }
+}
@@ -0,0 +1,175 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.service.CatalogSnapshot;
+import healthtrack.service.HealthSystem;
+import healthtrack.service.QueuePage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+final class SnapshotFile {
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final int MAGIC = 0x48545350;
+    private static final int VERSION = 2;
+    private static final int PAGE_SIZE = 10_000;
+
+    private SnapshotFile() {
+    }
+
+    static void write(Path directory, long seq, HealthSystem system) throws IOException {
+        write(directory, seq, system.catalog(), new PendingPages(system), system.attendedAppointments());
+    }
+
+    static void write(Path directory, long seq, CatalogSnapshot catalog, Iterator<Appointment> pending,
+                      Collection<Appointment> attended) throws IOException {
+        Path target = path(directory, seq);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seq);
+
+            List<ClinicSite> clinics = catalog.clinics();
+            out.writeInt(clinics.size());
+            for (ClinicSite clinic : clinics) {
+                RecordCodec.writeClinic(out, clinic);
+            }
+
+            List<Doctor> doctors = catalog.doctors();
+            out.writeInt(doctors.size());
+            for (Doctor doctor : doctors) {
+                RecordCodec.writeDoctor(out, doctor);
+            }
+
+            while (pending.hasNext()) {
+                out.writeBoolean(true);
+                RecordCodec.writeAppointment(out, pending.next());
+            }
+            out.writeBoolean(false);
+            for (Appointment appointment : attended) {
+                out.writeBoolean(true);
+                RecordCodec.writeAppointment(out, appointment);
+            }
+            out.writeBoolean(false);
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static long loadLatest(Path directory, HealthSystem system) throws IOException {
+        List<Path> snapshots = list(directory);
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest), 1 << 16))) {
+            int version = in.readInt() == MAGIC ? in.readInt() : -1;
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Formato de snapshot no reconocido: " + latest);
+            }
+            long seq = in.readLong();
+            int clinics = in.readInt();
+            for (int i = 0; i < clinics; i++) {
+                system.addClinic(RecordCodec.readClinic(in));
+            }
+            int doctors = in.readInt();
+            for (int i = 0; i < doctors; i++) {
+                system.addDoctor(RecordCodec.readDoctor(in));
+            }
+            while (in.readBoolean()) {
+                Appointment appointment = RecordCodec.readAppointment(in, system);
+                if (appointment != null) {
+                    try {
+                        system.addAppointment(appointment);
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+            while (version >= 2 && in.readBoolean()) {
+                Appointment appointment = RecordCodec.readAppointment(in, system);
+                if (appointment != null) {
+                    system.restoreAttendedAppointment(appointment);
+                }
+            }
+            return seq;
+        }
+    }
+
+    static void deleteOlderThan(Path directory, long seq) throws IOException {
+        for (Path snapshot : list(directory)) {
+            if (seqOf(snapshot) < seq) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        List<Path> result = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).forEach(result::add);
+        }
+        result.sort((a, b) -> Long.compare(seqOf(a), seqOf(b)));
+        return result;
+    }
+
+    private static long seqOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static Path path(Path directory, long seq) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, seq, SUFFIX));
+    }
+
+    private static final class PendingPages implements Iterator<Appointment> {
+
+        private final HealthSystem system;
+        private QueuePage page;
+        private int index;
+
+        private PendingPages(HealthSystem system) {
+            this.system = system;
+            this.page = system.previewAppointments(null, PAGE_SIZE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (index == page.appointments().size() && index == PAGE_SIZE) {
+                page = system.previewAppointments(page.next(), PAGE_SIZE);
+                index = 0;
+            }
+            return index < page.appointments().size();
+        }
+
+        @Override
+        public Appointment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.appointments().get(index++);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package healthtrack.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.persistence.PersistentHealthSystem;
+import healthtrack.service.HealthSystem;
+import healthtrack.support.CommandLineOptions;
+import healthtrack.support.DemoData;
+import healthtrack.support.FlatJson;
+import healthtrack.support.RecordFields;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+public final class HealthServer implements AutoCloseable {
+
+    private static final int BACKLOG = 4_096;
+    private static final int DEFAULT_PREVIEW = 30;
+    private static final int MAX_PREVIEW = 500;
+    private static final int DEFAULT_DAYS = 21;
+    private static final int MAX_DAYS = 365;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final HealthSystem system;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public HealthServer(HealthSystem system, InetSocketAddress address) throws IOException {
+        this.system = system;
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/clinics", exchange -> dispatch(exchange, this::clinics));
+        server.createContext("/doctors", exchange -> dispatch(exchange, this::doctors));
+        server.createContext("/appointments", exchange -> dispatch(exchange, this::appointments));
+        server.createContext("/patients", exchange -> dispatch(exchange, this::patients));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "8080"));
+        boolean demo = Boolean.parseBoolean(options.getOrDefault("demo", "false"));
+        if (options.containsKey("data")) {
+            try (PersistentHealthSystem persistent = PersistentHealthSystem.open(Path.of(options.get("data")))) {
+                serve(persistent.system(), port, demo);
+            }
+        } else {
+            serve(new HealthSystem(), port, demo);
+        }
+    }
+
+    private static void serve(HealthSystem system, int port, boolean demo) throws IOException, InterruptedException {
+        if (demo) {
+            DemoData.load(system);
+        }
+        CountDownLatch stopped = new CountDownLatch(1);
+        try (HealthServer server = new HealthServer(system, new InetSocketAddress(port))) {
+            Thread main = Thread.currentThread();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                stopped.countDown();
+                try {
+                    main.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            server.start();
+            System.out.println("Servidor HealthTrack escuchando en el puerto " + server.port());
+            stopped.await();
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private Response clinics(Request request) {
+        if (request.segments.length == 3 && request.segments[2].equals("agenda") && request.method.equals("GET")) {
+            LocalDate date = LocalDate.parse(RecordFields.required(request.query, "date"));
+            return Response.ok(Json.array(system.clinicAgenda(request.segments[1], date), Json::appointment));
+        }
+        if (request.segments.length != 1) {
+            return Response.notFound();
+        }
+        return switch (request.method) {
+            case "GET" -> {
+                String city = request.query("city");
+                List<ClinicSite> clinics = city.isEmpty() ? system.listClinics() : system.clinicsByCity(city);
+                yield Response.ok(Json.array(clinics, Json::clinic));
+            }
+            case "POST" -> {
+                ClinicSite clinic = RecordFields.clinic(request.body());
+                if (!system.addClinic(clinic)) {
+                    yield Response.conflict("Ya existe una sede con ese código.");
+                }
+                yield Response.created(Json.clinic(clinic));
+            }
+            default -> Response.methodNotAllowed();
+        };
+    }
+
+    private Response doctors(Request request) {
+        if (request.segments.length == 3 && request.method.equals("GET")) {
+            return doctorAvailability(request);
+        }
+        if (request.segments.length != 1) {
+            return Response.notFound();
+        }
+        return switch (request.method) {
+            case "GET" -> Response.ok(Json.array(filterDoctors(request), Json::doctor));
+            case "POST" -> {
+                Doctor doctor = RecordFields.doctor(request.body());
+                try {
+                    system.addDoctor(doctor);
+                } catch (IllegalArgumentException e) {
+                    yield Response.conflict(e.getMessage());
+                }
+                yield Response.created(Json.doctor(doctor));
+            }
+            default -> Response.methodNotAllowed();
+        };
+    }
+
+    private List<Doctor> filterDoctors(Request request) {
+        String clinic = request.query("clinic");
+        String specialty = request.query("specialty");
+        String city = request.query("city");
+        if (!clinic.isEmpty()) {
+            return system.doctorsByClinic(clinic);
+        }
+        if (!specialty.isEmpty()) {
+            return city.isEmpty() ? system.doctorsBySpecialty(specialty) : system.doctorsBySpecialty(specialty, city);
+        }
+        return system.listDoctors();
+    }
+
+    private Response doctorAvailability(Request request) {
+        Doctor doctor = system.findDoctor(request.segments[1]).orElse(null);
+        if (doctor == null) {
+            return Response.notFound("El médico no existe: " + request.segments[1]);
+        }
+        return switch (request.segments[2]) {
+            case "slots" -> {
+                LocalDate date = LocalDate.parse(RecordFields.required(request.query, "date"));
+                List<LocalTime> slots = system.getAvailableTimeSlots(doctor, date);
+                yield Response.ok(Json.array(slots, slot -> FlatJson.quote(slot.toString())));
+            }
+            case "dates" -> {
+                int days = request.intQuery("days", DEFAULT_DAYS);
+                if (days < 0 || days > MAX_DAYS) {
+                    yield Response.badRequest("El parámetro days debe estar entre 0 y " + MAX_DAYS + ".");
+                }
+                List<LocalDate> dates = system.getAvailableDates(doctor, days);
+                yield Response.ok(Json.array(dates, date -> FlatJson.quote(date.toString())));
+            }
+            case "agenda" -> {
+                LocalDateTime from = LocalDateTime.parse(RecordFields.required(request.query, "from"));
+                LocalDateTime to = LocalDateTime.parse(RecordFields.required(request.query, "to"));
+                yield Response.ok(Json.array(system.agenda(doctor.id(), from, to), Json::appointment));
+            }
+            default -> Response.notFound();
+        };
+    }
+
+    private Response appointments(Request request) {
+        if (request.segments.length == 2 && request.segments[1].equals("next")) {
+            return nextAppointment(request);
+        }
+        if (request.segments.length != 1) {
+            return Response.notFound();
+        }
+        return switch (request.method) {
+            case "GET" -> {
+                int limit = Math.max(0, Math.min(MAX_PREVIEW, request.intQuery("limit", DEFAULT_PREVIEW)));
+                yield Response.ok(Json.array(system.previewAppointments(limit), Json::appointment));
+            }
+            case "POST" -> {
+                Appointment appointment = RecordFields.appointment(request.body(), system);
+                try {
+                    system.addAppointment(appointment);
+                } catch (IllegalArgumentException e) {
+                    yield Response.conflict(e.getMessage());
+                }
+                yield Response.created(Json.appointment(appointment));
+            }
+            case "DELETE" -> {
+                String document = RecordFields.required(request.query, "document");
+                LocalDateTime schedule = LocalDateTime.parse(RecordFields.required(request.query, "schedule"));
+                yield system.cancelAppointment(document, schedule)
+                        .map(cancelled -> Response.ok(Json.appointment(cancelled)))
+                        .orElseGet(() -> Response.notFound("No existe una cita pendiente con esos datos."));
+            }
+            default -> Response.methodNotAllowed();
+        };
+    }
+
+    private Response patients(Request request) {
+        if (request.segments.length != 3 || !request.segments[2].equals("appointments")) {
+            return Response.notFound();
+        }
+        if (!request.method.equals("GET")) {
+            return Response.methodNotAllowed();
+        }
+        String document = request.segments[1];
+        if (system.findPatient(document).isEmpty()) {
+            return Response.notFound("No hay un paciente registrado con ese documento.");
+        }
+        return Response.ok("{\"pending\":" + Json.array(system.pendingAppointmentsOf(document), Json::appointment)
+                + ",\"attended\":" + Json.array(system.attendedAppointmentsOf(document), Json::appointment) + "}");
+    }
+
+    private Response nextAppointment(Request request) {
+        String clinic = request.query("clinic");
+        String doctor = request.query("doctor");
+        Appointment appointment;
+        switch (request.method) {
+            case "GET" -> appointment = !clinic.isEmpty() ? system.peekClinicAppointment(clinic)
+                    : !doctor.isEmpty() ? system.peekDoctorAppointment(doctor)
+                    : system.peekAppointment();
+            case "POST" -> appointment = !clinic.isEmpty() ? system.pollClinicAppointment(clinic)
+                    : !doctor.isEmpty() ? system.pollDoctorAppointment(doctor)
+                    : system.pollAppointment();
+            default -> {
+                return Response.methodNotAllowed();
+            }
+        }
+        return appointment == null ? Response.noContent() : Response.ok(Json.appointment(appointment));
+    }
+
+    private static void dispatch(HttpExchange exchange, Function<Request, Response> route) throws IOException {
+        Response response;
+        try {
+            response = route.apply(new Request(exchange));
+        } catch (BodyTooLarge e) {
+            response = Response.payloadTooLarge(e.getMessage());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            response = Response.badRequest(e.getMessage());
+        } catch (RuntimeException e) {
+            response = Response.error(e.getMessage());
+        }
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (response.status == 204) {
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(response.status, body.length);
+                out.write(body);
+            }
+        }
+    }
+
+    private static final class Request {
+
+        private final String method;
+        private final String[] segments;
+        private final Map<String, String> query;
+        private final HttpExchange exchange;
+
+        private Request(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.method = exchange.getRequestMethod().toUpperCase(Locale.ROOT);
+            String path = exchange.getRequestURI().getRawPath();
+            String[] raw = path.replaceAll("^/+|/+$", "").split("/+");
+            this.segments = new String[raw.length];
+            for (int i = 0; i < raw.length; i++) {
+                segments[i] = URLDecoder.decode(raw[i], StandardCharsets.UTF_8);
+            }
+            this.query = parseQuery(exchange.getRequestURI().getRawQuery());
+        }
+
+        private String query(String name) {
+            return query.getOrDefault(name, "").trim();
+        }
+
+        private int intQuery(String name, int defaultValue) {
+            String value = query(name);
+            if (value.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("El parámetro " + name + " debe ser un número entero.", e);
+            }
+        }
+
+        private Map<String, String> body() {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+                if (bytes.length > MAX_BODY_BYTES) {
+                    throw new BodyTooLarge("El cuerpo de la solicitud supera " + MAX_BODY_BYTES + " bytes.");
+                }
+                String text = new String(bytes, StandardCharsets.UTF_8);
+                if (text.isBlank()) {
+                    throw new IllegalArgumentException("El cuerpo de la solicitud está vacío.");
+                }
+                return FlatJson.parseObject(text.trim());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("No se pudo leer el cuerpo de la solicitud.", e);
+            }
+        }
+
+        private static Map<String, String> parseQuery(String raw) {
+            Map<String, String> values = new HashMap<>();
+            if (raw == null || raw.isEmpty()) {
+                return values;
+            }
+            for (String pair : raw.split("&")) {
+                int separator = pair.indexOf('=');
+                String key = separator < 0 ? pair : pair.substring(0, separator);
+                String value = separator < 0 ? "" : pair.substring(separator + 1);
+                values.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            return values;
+        }
+    }
+
+    private static final class Response {
+
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static Response ok(String body) {
+            return new Response(200, body);
+        }
+
+        private static Response created(String body) {
+            return new Response(201, body);
+        }
+
+        private static Response noContent() {
+            return new Response(204, "");
+        }
+
+        private static Response badRequest(String message) {
+            return new Response(400, Json.error(message));
+        }
+
+        private static Response notFound() {
+            return notFound("Recurso no encontrado.");
+        }
+
+        private static Response notFound(String message) {
+            return new Response(404, Json.error(message));
+        }
+
+        private static Response methodNotAllowed() {
+            return new Response(405, Json.error("Método no permitido."));
+        }
+
+        private static Response conflict(String message) {
+            return new Response(409, Json.error(message));
+        }
+
+        private static Response payloadTooLarge(String message) {
+            return new Response(413, Json.error(message));
+        }
+
+        private static Response error(String message) {
+            return new Response(500, Json.error(message));
+        }
+    }
+
+    private static final class BodyTooLarge extends RuntimeException {
+
+        private BodyTooLarge(String message) {
+            super(message);
+        }
+    }
+}
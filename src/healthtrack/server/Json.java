@@ -0,0 +1,68 @@
+package healthtrack.server;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.function.Function;
+
+import static healthtrack.support.FlatJson.quote;
+
+final class Json {
+
+    private Json() {
+    }
+
+    static <T> String array(Collection<T> values, Function<T, String> writer) {
+        StringBuilder out = new StringBuilder().append('[');
+        for (T value : values) {
+            if (out.length() > 1) {
+                out.append(',');
+            }
+            out.append(writer.apply(value));
+        }
+        return out.append(']').toString();
+    }
+
+    static String clinic(ClinicSite clinic) {
+        return "{\"code\":" + quote(clinic.code())
+                + ",\"name\":" + quote(clinic.name())
+                + ",\"city\":" + quote(clinic.city()) + "}";
+    }
+
+    static String doctor(Doctor doctor) {
+        DoctorAvailability availability = doctor.availability();
+        StringBuilder days = new StringBuilder();
+        for (DayOfWeek day : availability.availableDaysView()) {
+            if (days.length() > 0) {
+                days.append('|');
+            }
+            days.append(day);
+        }
+        return "{\"id\":" + quote(doctor.id())
+                + ",\"name\":" + quote(doctor.name())
+                + ",\"specialty\":" + quote(doctor.specialty())
+                + ",\"clinicCode\":" + quote(doctor.clinicCode())
+                + ",\"days\":" + quote(days.toString())
+                + ",\"start\":" + quote(availability.startTime().toString())
+                + ",\"end\":" + quote(availability.endTime().toString())
+                + ",\"slotMinutes\":" + availability.slotDurationMinutes() + "}";
+    }
+
+    static String appointment(Appointment appointment) {
+        return "{\"document\":" + quote(appointment.patient().document())
+                + ",\"name\":" + quote(appointment.patient().name())
+                + ",\"priority\":" + quote(appointment.priority().name())
+                + ",\"doctorId\":" + quote(appointment.doctor().id())
+                + ",\"clinicCode\":" + quote(appointment.clinic().code())
+                + ",\"type\":" + quote(appointment.type().name())
+                + ",\"schedule\":" + quote(appointment.schedule().toString()) + "}";
+    }
+
+    static String error(String message) {
+        return "{\"error\":" + quote(message == null ? "Error inesperado." : message) + "}";
+    }
+}
@@ -0,0 +1,71 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+final class AgendaIndex {
+
+    private final Map<String, NavigableMap<Entry, Appointment>> agendas = new ConcurrentHashMap<>();
+
+    void add(String partition, Appointment appointment) {
+        agendas.computeIfAbsent(Keys.of(partition), key -> new ConcurrentSkipListMap<>())
+                .put(Entry.of(appointment), appointment);
+    }
+
+    void remove(String partition, Appointment appointment) {
+        NavigableMap<Entry, Appointment> agenda = agendas.get(Keys.of(partition));
+        if (agenda != null) {
+            agenda.remove(Entry.of(appointment), appointment);
+        }
+    }
+
+    List<Appointment> range(String partition, LocalDateTime from, LocalDateTime to) {
+        NavigableMap<Entry, Appointment> agenda = agendas.get(Keys.of(partition));
+        if (agenda == null || !from.isBefore(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(agenda.subMap(new Entry(from, ""), true, new Entry(to, ""), false).values());
+    }
+
+    void clear() {
+        agendas.clear();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final LocalDateTime schedule;
+        private final String doctor;
+
+        private Entry(LocalDateTime schedule, String doctor) {
+            this.schedule = schedule;
+            this.doctor = doctor;
+        }
+
+        private static Entry of(Appointment appointment) {
+            return new Entry(appointment.schedule(), Keys.of(appointment.doctor().id()));
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int diff = schedule.compareTo(other.schedule);
+            return diff != 0 ? diff : doctor.compareTo(other.doctor);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Entry other && schedule.equals(other.schedule) && doctor.equals(other.doctor);
+        }
+
+        @Override
+        public int hashCode() {
+            return schedule.hashCode() * 31 + doctor.hashCode();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.PriorityLevel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class AgingPolicy {
+
+    private static final AgingPolicy NONE = new AgingPolicy(new Duration[PriorityLevel.values().length], Clock.systemDefaultZone());
+
+    private final Duration[] thresholds;
+    private final Clock clock;
+
+    private AgingPolicy(Duration[] thresholds, Clock clock) {
+        this.thresholds = thresholds;
+        this.clock = clock;
+    }
+
+    public static AgingPolicy none() {
+        return NONE;
+    }
+
+    public AgingPolicy promoteAfter(PriorityLevel level, Duration threshold) {
+        if (threshold == null || threshold.isNegative() || threshold.isZero()) {
+            throw new IllegalArgumentException("El umbral de envejecimiento debe ser positivo.");
+        }
+        Duration[] updated = Arrays.copyOf(thresholds, thresholds.length);
+        updated[level.ordinal()] = threshold;
+        return new AgingPolicy(updated, clock);
+    }
+
+    public AgingPolicy withClock(Clock clock) {
+        return new AgingPolicy(thresholds, Objects.requireNonNull(clock, "clock"));
+    }
+
+    public boolean isEnabled() {
+        for (Duration threshold : thresholds) {
+            if (threshold != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    int effectiveWeight(Appointment appointment, LocalDateTime now) {
+        int weight = appointment.priority().weight();
+        Duration threshold = thresholds[appointment.priority().ordinal()];
+        if (threshold == null || !appointment.schedule().isBefore(now)) {
+            return weight;
+        }
+        long waited = Duration.between(appointment.schedule(), now).toNanos();
+        long promotions = waited / threshold.toNanos();
+        return (int) Math.max(0, weight - promotions);
+    }
+
+    int compare(Appointment first, Appointment second, LocalDateTime now) {
+        int diff = Integer.compare(effectiveWeight(first, now), effectiveWeight(second, now));
+        if (diff != 0) {
+            return diff;
+        }
+        diff = first.schedule().compareTo(second.schedule());
+        return diff != 0 ? diff : first.compareTo(second);
+    }
+}
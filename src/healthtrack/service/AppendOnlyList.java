@@ -0,0 +1,45 @@
+package healthtrack.service;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+final class AppendOnlyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Object[0], 0);
+
+    private final Object[] elements;
+    private final int size;
+
+    private AppendOnlyList(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> AppendOnlyList<T> empty() {
+        return (AppendOnlyList<T>) EMPTY;
+    }
+
+    AppendOnlyList<T> append(T element) {
+        Object[] target = elements;
+        if (size == target.length || target[size] != null) {
+            target = new Object[Math.max(8, size + (size >> 1) + 1)];
+            System.arraycopy(elements, 0, target, 0, size);
+        }
+        target[size] = Objects.requireNonNull(element, "element");
+        return new AppendOnlyList<>(target, size + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
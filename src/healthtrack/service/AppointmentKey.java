@@ -0,0 +1,45 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+final class AppointmentKey {
+
+    private final String document;
+    private final LocalDateTime schedule;
+
+    AppointmentKey(String document, LocalDateTime schedule) {
+        this.document = Keys.of(Objects.requireNonNull(document, "document"));
+        this.schedule = Objects.requireNonNull(schedule, "schedule");
+    }
+
+    static AppointmentKey of(Appointment appointment) {
+        return new AppointmentKey(appointment.patient().document(), appointment.schedule());
+    }
+
+    String document() {
+        return document;
+    }
+
+    LocalDateTime schedule() {
+        return schedule;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof AppointmentKey other)) {
+            return false;
+        }
+        return document.equals(other.document) && schedule.equals(other.schedule);
+    }
+
+    @Override
+    public int hashCode() {
+        return document.hashCode() * 31 + schedule.hashCode();
+    }
+}
@@ -0,0 +1,102 @@
+package healthtrack.service;
+
+import healthtrack.model.AppointmentType;
+import healthtrack.model.PriorityLevel;
+
+import java.time.LocalDateTime;
+
+public final class AppointmentQuery {
+
+    private static final AppointmentQuery ALL = new AppointmentQuery(null, null, null, null, null, null, null, Integer.MAX_VALUE);
+
+    private final String clinicCode;
+    private final String doctorId;
+    private final String specialty;
+    private final AppointmentType type;
+    private final PriorityLevel priority;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int limit;
+
+    private AppointmentQuery(String clinicCode, String doctorId, String specialty, AppointmentType type,
+                             PriorityLevel priority, LocalDateTime from, LocalDateTime to, int limit) {
+        this.clinicCode = clinicCode;
+        this.doctorId = doctorId;
+        this.specialty = specialty;
+        this.type = type;
+        this.priority = priority;
+        this.from = from;
+        this.to = to;
+        this.limit = limit;
+    }
+
+    public static AppointmentQuery pending() {
+        return ALL;
+    }
+
+    public AppointmentQuery inClinic(String clinicCode) {
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery withDoctor(String doctorId) {
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery withSpecialty(String specialty) {
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery ofType(AppointmentType type) {
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery withPriority(PriorityLevel priority) {
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery between(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("El rango de fechas es inválido: " + from + " > " + to);
+        }
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    public AppointmentQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("El límite no puede ser negativo.");
+        }
+        return new AppointmentQuery(clinicCode, doctorId, specialty, type, priority, from, to, limit);
+    }
+
+    String clinicCode() {
+        return clinicCode;
+    }
+
+    String doctorId() {
+        return doctorId;
+    }
+
+    String specialty() {
+        return specialty;
+    }
+
+    AppointmentType type() {
+        return type;
+    }
+
+    PriorityLevel priority() {
+        return priority;
+    }
+
+    LocalDateTime from() {
+        return from;
+    }
+
+    LocalDateTime to() {
+        return to;
+    }
+
+    int limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,336 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.PriorityLevel;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class AppointmentQueryIndex {
+
+    private static final int SCAN_BUDGET_FACTOR = 4;
+    private static final int DRAIN_THRESHOLD = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<Update> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final Map<Appointment, Integer> ids = new HashMap<>();
+    private final CompressedBitmap all = new CompressedBitmap();
+    private final Map<String, CompressedBitmap> byClinic = new HashMap<>();
+    private final Map<String, CompressedBitmap> byDoctor = new HashMap<>();
+    private final Map<String, CompressedBitmap> bySpecialty = new HashMap<>();
+    private final CompressedBitmap[] byType = new CompressedBitmap[AppointmentType.values().length];
+    private final CompressedBitmap[] byPriority = new CompressedBitmap[PriorityLevel.values().length];
+    private final NavigableMap<LocalDate, CompressedBitmap> byDate = new TreeMap<>();
+    private Appointment[] rows = new Appointment[1024];
+    private int[] freeIds = new int[64];
+    private int freeCount;
+    private int nextId;
+
+    AppointmentQueryIndex() {
+        resetEnumIndexes();
+    }
+
+    void add(Appointment appointment, String specialtyKey) {
+        enqueue(new Update(appointment, specialtyKey, true));
+    }
+
+    void remove(Appointment appointment, String specialtyKey) {
+        enqueue(new Update(appointment, specialtyKey, false));
+    }
+
+    private void enqueue(Update update) {
+        pending.add(update);
+        if (backlog.incrementAndGet() >= DRAIN_THRESHOLD && lock.writeLock().tryLock()) {
+            try {
+                drain();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        Update update;
+        while ((update = pending.poll()) != null) {
+            backlog.decrementAndGet();
+            if (update.added) {
+                index(update.appointment, update.specialtyKey);
+            } else {
+                unindex(update.appointment, update.specialtyKey);
+            }
+        }
+    }
+
+    private void lockForRead() {
+        if (!pending.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                drain();
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } else {
+            lock.readLock().lock();
+        }
+    }
+
+    private void index(Appointment appointment, String specialtyKey) {
+        if (ids.containsKey(appointment)) {
+            return;
+        }
+        int id = allocateId();
+        ids.put(appointment, id);
+        rows[id] = appointment;
+        all.add(id);
+        byClinic.computeIfAbsent(Keys.of(appointment.clinic().code()), key -> new CompressedBitmap()).add(id);
+        byDoctor.computeIfAbsent(Keys.of(appointment.doctor().id()), key -> new CompressedBitmap()).add(id);
+        bySpecialty.computeIfAbsent(specialtyKey, key -> new CompressedBitmap()).add(id);
+        byType[appointment.type().ordinal()].add(id);
+        byPriority[appointment.priority().ordinal()].add(id);
+        byDate.computeIfAbsent(appointment.schedule().toLocalDate(), key -> new CompressedBitmap()).add(id);
+    }
+
+    private void unindex(Appointment appointment, String specialtyKey) {
+        Integer id = ids.remove(appointment);
+        if (id == null) {
+            return;
+        }
+        Appointment indexed = rows[id];
+        rows[id] = null;
+        all.remove(id);
+        unindex(byClinic, Keys.of(indexed.clinic().code()), id);
+        unindex(byDoctor, Keys.of(indexed.doctor().id()), id);
+        unindex(bySpecialty, specialtyKey, id);
+        byType[indexed.type().ordinal()].remove(id);
+        byPriority[indexed.priority().ordinal()].remove(id);
+        unindex(byDate, indexed.schedule().toLocalDate(), id);
+        releaseId(id);
+    }
+
+    List<Appointment> query(AppointmentQuery query, Iterable<Appointment> ordered) {
+        lockForRead();
+        try {
+            CompressedBitmap matches = select(query);
+            int limit = query.limit();
+            if (limit == 0 || matches.isEmpty()) {
+                return new ArrayList<>();
+            }
+            int candidates = matches.cardinality();
+            long expectedScan = (long) limit * all.cardinality() / candidates;
+            if (query.priority() == null && limit < candidates && expectedScan < candidates / SCAN_BUDGET_FACTOR) {
+                List<Appointment> scanned = scanInOrder(matches, query, ordered, expectedScan * SCAN_BUDGET_FACTOR);
+                if (scanned != null) {
+                    return scanned;
+                }
+            }
+            PriorityQueue<Appointment> best = new PriorityQueue<>(Comparator.reverseOrder());
+            matches.forEach(id -> {
+                Appointment appointment = rows[id];
+                if (!inRange(appointment, query)) {
+                    return;
+                }
+                if (best.size() < limit) {
+                    best.add(appointment);
+                } else if (appointment.compareTo(best.peek()) < 0) {
+                    best.poll();
+                    best.add(appointment);
+                }
+            });
+            List<Appointment> result = new ArrayList<>(best);
+            Collections.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Appointment> scanInOrder(CompressedBitmap matches, AppointmentQuery query,
+                                          Iterable<Appointment> ordered, long budget) {
+        List<Appointment> result = new ArrayList<>(query.limit());
+        long visited = 0;
+        for (Appointment appointment : ordered) {
+            if (++visited > budget) {
+                return null;
+            }
+            Integer id = ids.get(appointment);
+            if (id != null && matches.contains(id) && inRange(appointment, query)) {
+                result.add(appointment);
+                if (result.size() == query.limit()) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    int count(AppointmentQuery query) {
+        lockForRead();
+        try {
+            CompressedBitmap matches = select(query);
+            if (query.from() == null && query.to() == null) {
+                return matches.cardinality();
+            }
+            int[] count = {0};
+            matches.forEach(id -> {
+                if (inRange(rows[id], query)) {
+                    count[0]++;
+                }
+            });
+            return count[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            pending.clear();
+            backlog.set(0);
+            ids.clear();
+            Arrays.fill(rows, null);
+            freeCount = 0;
+            nextId = 0;
+            all.clear();
+            byClinic.clear();
+            byDoctor.clear();
+            bySpecialty.clear();
+            byDate.clear();
+            resetEnumIndexes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private CompressedBitmap select(AppointmentQuery query) {
+        List<CompressedBitmap> filters = new ArrayList<>(6);
+        if (query.clinicCode() != null && !addFilter(filters, byClinic.get(Keys.of(query.clinicCode())))) {
+            return new CompressedBitmap();
+        }
+        if (query.doctorId() != null && !addFilter(filters, byDoctor.get(Keys.of(query.doctorId())))) {
+            return new CompressedBitmap();
+        }
+        if (query.specialty() != null && !addFilter(filters, bySpecialty.get(Keys.folded(query.specialty())))) {
+            return new CompressedBitmap();
+        }
+        if (query.type() != null && !addFilter(filters, byType[query.type().ordinal()])) {
+            return new CompressedBitmap();
+        }
+        if (query.priority() != null && !addFilter(filters, byPriority[query.priority().ordinal()])) {
+            return new CompressedBitmap();
+        }
+        boolean ranged = query.from() != null || query.to() != null;
+        Collection<CompressedBitmap> days = ranged ? daysInRange(query) : List.of();
+        int dayEstimate = 0;
+        for (CompressedBitmap day : days) {
+            dayEstimate += day.cardinality();
+        }
+        if (ranged && dayEstimate == 0) {
+            return new CompressedBitmap();
+        }
+        filters.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+        boolean dateDrives = ranged && (filters.isEmpty() || dayEstimate < filters.get(0).cardinality());
+        CompressedBitmap result;
+        int next = 0;
+        if (dateDrives) {
+            result = new CompressedBitmap();
+            for (CompressedBitmap day : days) {
+                result = result.or(day);
+            }
+        } else if (filters.isEmpty()) {
+            return all;
+        } else {
+            result = filters.get(next++);
+        }
+        while (next < filters.size() && !result.isEmpty()) {
+            result = result.and(filters.get(next++));
+        }
+        return result;
+    }
+
+    private Collection<CompressedBitmap> daysInRange(AppointmentQuery query) {
+        LocalDate first = query.from() == null ? byDate.isEmpty() ? LocalDate.MIN : byDate.firstKey() : query.from().toLocalDate();
+        LocalDate last = query.to() == null ? LocalDate.MAX : query.to().toLocalDate();
+        return byDate.subMap(first, true, last, true).values();
+    }
+
+    private static boolean addFilter(List<CompressedBitmap> filters, CompressedBitmap bitmap) {
+        if (bitmap == null || bitmap.isEmpty()) {
+            return false;
+        }
+        filters.add(bitmap);
+        return true;
+    }
+
+    private static boolean inRange(Appointment appointment, AppointmentQuery query) {
+        LocalDateTime schedule = appointment.schedule();
+        return (query.from() == null || !schedule.isBefore(query.from()))
+                && (query.to() == null || schedule.isBefore(query.to()));
+    }
+
+    private static <K> void unindex(Map<K, CompressedBitmap> index, K key, int id) {
+        CompressedBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private int allocateId() {
+        if (freeCount > 0) {
+            return freeIds[--freeCount];
+        }
+        if (nextId == rows.length) {
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        return nextId++;
+    }
+
+    private void releaseId(int id) {
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    private void resetEnumIndexes() {
+        for (int i = 0; i < byType.length; i++) {
+            byType[i] = new CompressedBitmap();
+        }
+        for (int i = 0; i < byPriority.length; i++) {
+            byPriority[i] = new CompressedBitmap();
+        }
+    }
+
+    private static final class Update {
+
+        private final Appointment appointment;
+        private final String specialtyKey;
+        private final boolean added;
+
+        private Update(Appointment appointment, String specialtyKey, boolean added) {
+            this.appointment = appointment;
+            this.specialtyKey = specialtyKey;
+            this.added = added;
+        }
+    }
+}
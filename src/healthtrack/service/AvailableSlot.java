@@ -0,0 +1,30 @@
+package healthtrack.service;
+
+import healthtrack.model.Doctor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public final class AvailableSlot {
+
+    private final Doctor doctor;
+    private final LocalDateTime schedule;
+
+    AvailableSlot(Doctor doctor, LocalDateTime schedule) {
+        this.doctor = Objects.requireNonNull(doctor, "doctor");
+        this.schedule = Objects.requireNonNull(schedule, "schedule");
+    }
+
+    public Doctor doctor() {
+        return doctor;
+    }
+
+    public LocalDateTime schedule() {
+        return schedule;
+    }
+
+    @Override
+    public String toString() {
+        return doctor.name() + " (" + doctor.specialty() + ") - " + schedule;
+    }
+}
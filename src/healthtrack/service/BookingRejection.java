@@ -0,0 +1,18 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+public enum BookingRejection {
+    DUPLICATE_PATIENT_SLOT("El paciente ya tiene una cita registrada en este horario (%s)."),
+    DOCTOR_UNAVAILABLE("El médico no está disponible en el horario seleccionado (%s).");
+
+    private final String message;
+
+    BookingRejection(String message) {
+        this.message = message;
+    }
+
+    public String describe(Appointment appointment) {
+        return String.format(message, appointment.schedule());
+    }
+}
@@ -0,0 +1,36 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.util.Objects;
+
+public final class BookingResult {
+
+    private final Appointment appointment;
+    private final BookingRejection rejection;
+
+    private BookingResult(Appointment appointment, BookingRejection rejection) {
+        this.appointment = Objects.requireNonNull(appointment, "appointment");
+        this.rejection = rejection;
+    }
+
+    static BookingResult of(Appointment appointment, BookingRejection rejection) {
+        return new BookingResult(appointment, rejection);
+    }
+
+    public Appointment appointment() {
+        return appointment;
+    }
+
+    public boolean accepted() {
+        return rejection == null;
+    }
+
+    public BookingRejection rejection() {
+        return rejection;
+    }
+
+    public String message() {
+        return rejection == null ? "Cita registrada." : rejection.describe(appointment);
+    }
+}
@@ -0,0 +1,53 @@
+package healthtrack.service;
+
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+
+import java.util.List;
+
+public final class CatalogSnapshot {
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(0, AppendOnlyList.empty(), AppendOnlyList.empty());
+
+    private final long version;
+    private final AppendOnlyList<ClinicSite> clinics;
+    private final AppendOnlyList<Doctor> doctors;
+
+    private CatalogSnapshot(long version, AppendOnlyList<ClinicSite> clinics, AppendOnlyList<Doctor> doctors) {
+        this.version = version;
+        this.clinics = clinics;
+        this.doctors = doctors;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<ClinicSite> clinics() {
+        return clinics;
+    }
+
+    public List<Doctor> doctors() {
+        return doctors;
+    }
+
+    public boolean hasClinics() {
+        return !clinics.isEmpty();
+    }
+
+    public boolean hasDoctors() {
+        return !doctors.isEmpty();
+    }
+
+    CatalogSnapshot withClinic(ClinicSite clinic) {
+        return new CatalogSnapshot(version + 1, clinics.append(clinic), doctors);
+    }
+
+    CatalogSnapshot withDoctor(Doctor doctor) {
+        return new CatalogSnapshot(version + 1, clinics, doctors.append(doctor));
+    }
+
+    CatalogSnapshot cleared() {
+        return new CatalogSnapshot(version + 1, AppendOnlyList.empty(), AppendOnlyList.empty());
+    }
+}
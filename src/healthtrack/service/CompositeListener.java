@@ -0,0 +1,98 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class CompositeListener implements HealthSystemListener {
+
+    private final HealthSystemListener[] listeners;
+
+    private CompositeListener(HealthSystemListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    static HealthSystemListener with(HealthSystemListener current, HealthSystemListener added) {
+        List<HealthSystemListener> all = flatten(current);
+        all.add(added);
+        return of(all);
+    }
+
+    static HealthSystemListener without(HealthSystemListener current, HealthSystemListener removed) {
+        List<HealthSystemListener> all = flatten(current);
+        all.remove(removed);
+        return of(all);
+    }
+
+    private static List<HealthSystemListener> flatten(HealthSystemListener listener) {
+        if (listener instanceof CompositeListener composite) {
+            return new ArrayList<>(Arrays.asList(composite.listeners));
+        }
+        List<HealthSystemListener> result = new ArrayList<>();
+        if (listener != NONE) {
+            result.add(listener);
+        }
+        return result;
+    }
+
+    private static HealthSystemListener of(List<HealthSystemListener> listeners) {
+        return switch (listeners.size()) {
+            case 0 -> NONE;
+            case 1 -> listeners.get(0);
+            default -> new CompositeListener(listeners.toArray(new HealthSystemListener[0]));
+        };
+    }
+
+    @Override
+    public void clinicAdded(ClinicSite clinic) {
+        for (HealthSystemListener listener : listeners) {
+            listener.clinicAdded(clinic);
+        }
+    }
+
+    @Override
+    public void doctorAdded(Doctor doctor) {
+        for (HealthSystemListener listener : listeners) {
+            listener.doctorAdded(doctor);
+        }
+    }
+
+    @Override
+    public void appointmentAdded(Appointment appointment) {
+        for (HealthSystemListener listener : listeners) {
+            listener.appointmentAdded(appointment);
+        }
+    }
+
+    @Override
+    public void appointmentAttended(Appointment appointment) {
+        for (HealthSystemListener listener : listeners) {
+            listener.appointmentAttended(appointment);
+        }
+    }
+
+    @Override
+    public void appointmentCancelled(Appointment appointment) {
+        for (HealthSystemListener listener : listeners) {
+            listener.appointmentCancelled(appointment);
+        }
+    }
+
+    @Override
+    public void cleared() {
+        for (HealthSystemListener listener : listeners) {
+            listener.cleared();
+        }
+    }
+
+    @Override
+    public void awaitDurable() {
+        for (HealthSystemListener listener : listeners) {
+            listener.awaitDurable();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package healthtrack.service;
+
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+final class FreeSlotIterator implements Iterator<LocalDateTime> {
+
+    private final Doctor doctor;
+    private final SlotOccupancy occupancy;
+    private final DoctorAvailability availability;
+    private final LocalDate lastDate;
+    private LocalDate date;
+    private int slot;
+    private LocalDateTime next;
+
+    FreeSlotIterator(Doctor doctor, SlotOccupancy occupancy, LocalDateTime from, LocalDate lastDate) {
+        this.doctor = doctor;
+        this.occupancy = occupancy;
+        this.availability = doctor.availability();
+        this.lastDate = lastDate;
+        this.date = from.toLocalDate();
+        this.slot = firstSlotAtOrAfter(from);
+        this.next = advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public LocalDateTime next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        LocalDateTime current = next;
+        next = advance();
+        return current;
+    }
+
+    private LocalDateTime advance() {
+        while (!date.isAfter(lastDate)) {
+            if (availability.isAvailableOn(date.getDayOfWeek()) && slot < availability.slotCount()) {
+                int free = occupancy.nextFreeSlot(doctor, date, slot);
+                if (free < availability.slotCount()) {
+                    slot = free + 1;
+                    return LocalDateTime.of(date, availability.slotAt(free));
+                }
+            }
+            date = date.plusDays(1);
+            slot = 0;
+        }
+        return null;
+    }
+
+    private int firstSlotAtOrAfter(LocalDateTime from) {
+        int count = availability.slotCount();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (availability.slotAt(middle).isBefore(from.toLocalTime())) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
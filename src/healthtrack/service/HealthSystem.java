@@ -1,121 +1,307 @@
 package healthtrack.service;
 
+import healthtrack.metrics.Instrumentation;
+import healthtrack.metrics.Operation;
 import healthtrack.model.Appointment;
 import healthtrack.model.ClinicSite;
 import healthtrack.model.Doctor;
 import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PriorityLevel;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class HealthSystem {
 
-    private final List<ClinicSite> clinics = new ArrayList<>();
-    private final List<Doctor> doctors = new ArrayList<>();
-    private final PriorityQueue<Appointment> appointments = new PriorityQueue<>(Comparator.naturalOrder());
-    private final List<Appointment> registeredAppointments = new ArrayList<>();
+    private static final int SEARCH_HORIZON_DAYS = 90;
+
+    private final Object registrationLock = new Object();
+    private final Map<String, ClinicSite> clinics = new ConcurrentHashMap<>();
+    private final Map<String, Doctor> doctors = new ConcurrentHashMap<>();
+    private final AtomicReference<CatalogSnapshot> catalog = new AtomicReference<>(CatalogSnapshot.EMPTY);
+    private final Map<String, AppendOnlyList<Doctor>> doctorsByClinic = new ConcurrentHashMap<>();
+    private final Map<String, AppendOnlyList<ClinicSite>> clinicsByCity = new ConcurrentHashMap<>();
+    private final Map<String, AppendOnlyList<Doctor>> doctorsBySpecialty = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, AppendOnlyList<Doctor>>> doctorsByCity = new ConcurrentHashMap<>();
+    private final Map<String, String> specialtyKeys = new ConcurrentHashMap<>();
+    private volatile AgingPolicy agingPolicy = AgingPolicy.none();
+    private final PriorityBuckets appointments = new PriorityBuckets(() -> agingPolicy);
+    private final QueuePartitions clinicQueues = new QueuePartitions(() -> agingPolicy);
+    private final QueuePartitions doctorQueues = new QueuePartitions(() -> agingPolicy);
+    private final AgendaIndex clinicAgendas = new AgendaIndex();
+    private final AgendaIndex doctorAgendas = new AgendaIndex();
+    private final AppointmentQueryIndex queryIndex = new AppointmentQueryIndex();
+    private final Map<AppointmentKey, Appointment> registeredAppointments = new ConcurrentHashMap<>();
+    private final SlotOccupancy occupancy = new SlotOccupancy();
+    private final Map<String, Patient> patients = new ConcurrentHashMap<>();
+    private final Map<String, PatientHistory> histories = new ConcurrentHashMap<>();
+    private final StripedLocks patientLocks = new StripedLocks(256);
+    private volatile HealthSystemListener listener = HealthSystemListener.NONE;
+    private volatile Instrumentation instrumentation = Instrumentation.NONE;
+
+    public void addListener(HealthSystemListener added) {
+        Objects.requireNonNull(added, "listener");
+        synchronized (registrationLock) {
+            listener = CompositeListener.with(listener, added);
+        }
+    }
+
+    public void removeListener(HealthSystemListener removed) {
+        synchronized (registrationLock) {
+            listener = CompositeListener.without(listener, removed);
+        }
+    }
+
+    public void setInstrumentation(Instrumentation instrumentation) {
+        Instrumentation installed = instrumentation == null ? Instrumentation.NONE : instrumentation;
+        installed.attach(this);
+        this.instrumentation = installed;
+    }
+
+    public void setAgingPolicy(AgingPolicy policy) {
+        agingPolicy = policy == null ? AgingPolicy.none() : policy;
+    }
+
+    public AgingPolicy agingPolicy() {
+        return agingPolicy;
+    }
 
     public boolean addClinic(ClinicSite clinic) {
-        for (ClinicSite existing : clinics) {
-            if (existing.code().equalsIgnoreCase(clinic.code())) {
+        String key = Keys.of(clinic.code());
+        synchronized (registrationLock) {
+            if (clinics.containsKey(key)) {
                 return false;
             }
+            listener.clinicAdded(clinic);
+            clinics.put(key, clinic);
+            catalog.set(catalog.get().withClinic(clinic));
+            append(clinicsByCity, Keys.folded(clinic.city()), clinic);
         }
-        clinics.add(clinic);
+        listener.awaitDurable();
         return true;
     }
 
+    public CatalogSnapshot catalog() {
+        return catalog.get();
+    }
+
     public List<ClinicSite> listClinics() {
-        return new ArrayList<>(clinics);
+        return catalog.get().clinics();
     }
 
     public Optional<ClinicSite> findClinic(String code) {
-        return clinics.stream()
-                .filter(clinic -> clinic.code().equalsIgnoreCase(code))
-                .findFirst();
+        return Optional.ofNullable(clinics.get(Keys.of(code)));
     }
 
     public boolean addDoctor(Doctor doctor) {
-        if (findClinic(doctor.clinicCode()).isEmpty()) {
-            throw new IllegalArgumentException("La sede asociada al médico no existe.");
-        }
-        for (Doctor existing : doctors) {
-            if (existing.id().equalsIgnoreCase(doctor.id())) {
+        String clinicKey = Keys.of(doctor.clinicCode());
+        synchronized (registrationLock) {
+            if (!clinics.containsKey(clinicKey)) {
+                throw new IllegalArgumentException("La sede asociada al médico no existe.");
+            }
+            Doctor existing = doctors.get(Keys.of(doctor.id()));
+            if (existing != null) {
                 if (existing.clinicCode().equalsIgnoreCase(doctor.clinicCode())) {
                     throw new IllegalArgumentException("El médico ya está registrado en esta sede.");
                 } else {
                     throw new IllegalArgumentException("El médico ya está registrado en otra sede (" + existing.clinicCode() + ").");
                 }
             }
+            listener.doctorAdded(doctor);
+            doctors.put(Keys.of(doctor.id()), doctor);
+            catalog.set(catalog.get().withDoctor(doctor));
+            append(doctorsByClinic, clinicKey, doctor);
+            String specialtyKey = Keys.folded(doctor.specialty());
+            specialtyKeys.put(Keys.of(doctor.id()), specialtyKey);
+            append(doctorsBySpecialty, specialtyKey, doctor);
+            append(doctorsByCity.computeIfAbsent(Keys.folded(clinics.get(clinicKey).city()), key -> new ConcurrentHashMap<>()),
+                    specialtyKey, doctor);
         }
-        doctors.add(doctor);
+        listener.awaitDurable();
         return true;
     }
 
     public List<Doctor> listDoctors() {
-        return new ArrayList<>(doctors);
+        return catalog.get().doctors();
+    }
+
+    private static <T> void append(Map<String, AppendOnlyList<T>> index, String key, T element) {
+        index.put(key, index.getOrDefault(key, AppendOnlyList.empty()).append(element));
+    }
+
+    public Optional<Doctor> findDoctor(String id) {
+        return Optional.ofNullable(doctors.get(Keys.of(id)));
     }
 
     public List<Doctor> doctorsByClinic(String clinicCode) {
-        List<Doctor> result = new ArrayList<>();
-        for (Doctor doctor : doctors) {
-            if (doctor.clinicCode().equalsIgnoreCase(clinicCode)) {
-                result.add(doctor);
+        return doctorsByClinic.getOrDefault(Keys.of(clinicCode), AppendOnlyList.empty());
+    }
+
+    public List<ClinicSite> clinicsByCity(String city) {
+        return clinicsByCity.getOrDefault(Keys.folded(city), AppendOnlyList.empty());
+    }
+
+    public List<Doctor> doctorsBySpecialty(String specialty) {
+        return doctorsBySpecialty.getOrDefault(Keys.folded(specialty), AppendOnlyList.empty());
+    }
+
+    public List<Doctor> doctorsBySpecialty(String specialty, String city) {
+        Map<String, AppendOnlyList<Doctor>> bySpecialty = doctorsByCity.get(Keys.folded(city));
+        return bySpecialty == null ? AppendOnlyList.empty() : bySpecialty.getOrDefault(Keys.folded(specialty), AppendOnlyList.empty());
+    }
+
+    public Patient canonicalPatient(Patient patient) {
+        Patient existing = patients.get(Keys.of(patient.document()));
+        return existing != null && existing.category() == patient.category() ? existing : patient;
+    }
+
+    public Optional<Patient> findPatient(String document) {
+        return Optional.ofNullable(patients.get(Keys.of(document)));
+    }
+
+    public List<Appointment> pendingAppointmentsOf(String document) {
+        String key = Keys.of(document);
+        synchronized (patientLocks.lockFor(key)) {
+            PatientHistory history = histories.get(key);
+            return history == null ? new ArrayList<>() : history.pending();
+        }
+    }
+
+    public List<Appointment> attendedAppointmentsOf(String document) {
+        String key = Keys.of(document);
+        synchronized (patientLocks.lockFor(key)) {
+            PatientHistory history = histories.get(key);
+            return history == null ? new ArrayList<>() : history.attended();
+        }
+    }
+
+    public List<Appointment> attendedAppointments() {
+        List<Appointment> result = new ArrayList<>();
+        for (Map.Entry<String, PatientHistory> entry : histories.entrySet()) {
+            synchronized (patientLocks.lockFor(entry.getKey())) {
+                result.addAll(entry.getValue().attended());
             }
         }
         return result;
     }
 
+    public void restoreAttendedAppointment(Appointment appointment) {
+        String key = Keys.of(appointment.patient().document());
+        synchronized (patientLocks.lockFor(key)) {
+            patients.putIfAbsent(key, appointment.patient());
+            PatientHistory history = histories.computeIfAbsent(key, document -> new PatientHistory());
+            if (!history.isPending(appointment)) {
+                history.released(appointment, true);
+            }
+        }
+    }
+
     public boolean addAppointment(Appointment appointment) {
-        if (registeredAppointments.contains(appointment)) {
-            throw new IllegalArgumentException("El paciente ya tiene una cita registrada en este horario (" + appointment.schedule() + ").");
+        Instrumentation metrics = instrumentation;
+        long start = metrics.start();
+        BookingRejection rejection;
+        synchronized (occupancy.lockFor(appointment.doctor())) {
+            rejection = book(appointment);
         }
-        if (!isDoctorAvailableAt(appointment.doctor(), appointment.schedule())) {
-            throw new IllegalArgumentException("El médico no está disponible en el horario seleccionado (" + appointment.schedule() + ").");
+        if (rejection != null) {
+            metrics.bookingRejected(rejection, start);
+            throw new IllegalArgumentException(rejection.describe(appointment));
         }
-        registeredAppointments.add(appointment);
-        appointments.add(appointment);
+        listener.awaitDurable();
+        metrics.record(Operation.ADD_APPOINTMENT, start);
         return true;
     }
 
-    private boolean isDoctorAvailableAt(Doctor doctor, LocalDateTime schedule) {
-        DoctorAvailability availability = doctor.availability();
-
-        if (!availability.isAvailableOn(schedule.getDayOfWeek())) {
-            return false;
+    public List<BookingResult> addAppointments(Collection<Appointment> batch) {
+        Instrumentation metrics = instrumentation;
+        List<Appointment> items = new ArrayList<>(batch);
+        BookingRejection[] rejections = new BookingRejection[items.size()];
+        long[] starts = new long[items.size()];
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Appointment appointment = items.get(i);
+            starts[i] = metrics.start();
+            if (!isDoctorAvailableAt(appointment.doctor(), appointment.schedule())) {
+                rejections[i] = BookingRejection.DOCTOR_UNAVAILABLE;
+                metrics.bookingRejected(rejections[i], starts[i]);
+            } else {
+                String group = Keys.of(appointment.doctor().id()) + '|' + appointment.schedule().toLocalDate();
+                groups.computeIfAbsent(group, key -> new ArrayList<>()).add(i);
+            }
         }
-
-        LocalTime time = schedule.toLocalTime();
-        if (time.isBefore(availability.startTime()) || !time.isBefore(availability.endTime())) {
-            return false;
+        for (List<Integer> group : groups.values()) {
+            synchronized (occupancy.lockFor(items.get(group.get(0)).doctor())) {
+                for (int index : group) {
+                    rejections[index] = book(items.get(index));
+                    if (rejections[index] != null) {
+                        metrics.bookingRejected(rejections[index], starts[index]);
+                    }
+                }
+            }
         }
-
-        boolean matchesSlot = availability.generateTimeSlots().stream()
-                .anyMatch(slot -> slot.equals(time));
-        if (!matchesSlot) {
-            return false;
+        listener.awaitDurable();
+        List<BookingResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (rejections[i] == null) {
+                metrics.record(Operation.ADD_APPOINTMENT, starts[i]);
+            }
+            results.add(BookingResult.of(items.get(i), rejections[i]));
         }
-
-        return isSlotFree(doctor, schedule);
+        return results;
     }
 
-    private boolean isSlotFree(Doctor doctor, LocalDateTime schedule) {
-        for (Appointment existing : registeredAppointments) {
-            if (existing.doctor().id().equals(doctor.id())
-                    && existing.schedule().equals(schedule)) {
-                return false;
+    private BookingRejection book(Appointment appointment) {
+        AppointmentKey key = AppointmentKey.of(appointment);
+        String patientKey = Keys.of(key.document());
+        synchronized (patientLocks.lockFor(patientKey)) {
+            if (registeredAppointments.containsKey(key)) {
+                return BookingRejection.DUPLICATE_PATIENT_SLOT;
+            }
+            if (!isDoctorAvailableAt(appointment.doctor(), appointment.schedule())
+                    || occupancy.isOccupied(appointment.doctor(), appointment.schedule())) {
+                return BookingRejection.DOCTOR_UNAVAILABLE;
             }
+            listener.appointmentAdded(appointment);
+            occupancy.tryOccupy(appointment.doctor(), appointment.schedule());
+            if (!appointments.add(appointment)) {
+                throw new IllegalStateException("La cola de citas ya contenía " + appointment + ".");
+            }
+            registeredAppointments.put(key, appointment);
+            patients.putIfAbsent(patientKey, appointment.patient());
+            histories.computeIfAbsent(patientKey, document -> new PatientHistory()).booked(appointment);
+            clinicQueues.add(appointment.clinic().code(), appointment);
+            doctorQueues.add(appointment.doctor().id(), appointment);
+            clinicAgendas.add(appointment.clinic().code(), appointment);
+            doctorAgendas.add(appointment.doctor().id(), appointment);
+            queryIndex.add(appointment, specialtyKeyOf(appointment.doctor()));
+            return null;
         }
-        return true;
+    }
+
+    private boolean isDoctorAvailableAt(Doctor doctor, LocalDateTime schedule) {
+        DoctorAvailability availability = doctor.availability();
+        return availability.isAvailableOn(schedule.getDayOfWeek())
+                && availability.isSlot(schedule.toLocalTime());
     }
 
     public List<LocalDate> getAvailableDates(Doctor doctor, int daysAhead) {
+        Instrumentation metrics = instrumentation;
+        long start = metrics.start();
         List<LocalDate> dates = new ArrayList<>();
         LocalDate today = LocalDate.now();
         for (int i = 0; i <= daysAhead; i++) {
@@ -123,52 +309,305 @@ public final class HealthSystem {
             if (!doctor.availability().isAvailableOn(date.getDayOfWeek())) {
                 continue;
             }
-            if (!getAvailableTimeSlots(doctor, date).isEmpty()) {
+            if (hasAnyFreeSlot(doctor, date)) {
                 dates.add(date);
             }
         }
+        metrics.record(Operation.GET_AVAILABLE_DATES, start);
         return dates;
     }
 
+    public boolean hasAnyFreeSlot(Doctor doctor, LocalDate date) {
+        DoctorAvailability availability = doctor.availability();
+        return availability.isAvailableOn(date.getDayOfWeek())
+                && occupancy.nextFreeSlot(doctor, date, 0) < availability.slotCount();
+    }
+
+    public Iterator<LocalDateTime> freeSlots(Doctor doctor, LocalDateTime from, int daysAhead) {
+        return new FreeSlotIterator(doctor, occupancy, from, from.toLocalDate().plusDays(daysAhead));
+    }
+
     public List<LocalTime> getAvailableTimeSlots(Doctor doctor, LocalDate date) {
+        Instrumentation metrics = instrumentation;
+        long start = metrics.start();
         List<LocalTime> available = new ArrayList<>();
         DoctorAvailability availability = doctor.availability();
         if (!availability.isAvailableOn(date.getDayOfWeek())) {
+            metrics.record(Operation.GET_AVAILABLE_TIME_SLOTS, start);
             return available;
         }
-        for (LocalTime slot : availability.generateTimeSlots()) {
-            LocalDateTime schedule = LocalDateTime.of(date, slot);
-            if (isSlotFree(doctor, schedule)) {
-                available.add(slot);
+        BitSet occupied = occupancy.occupiedSlots(doctor, date);
+        for (int slot = 0; slot < availability.slotCount(); slot++) {
+            if (!occupied.get(slot)) {
+                available.add(availability.slotAt(slot));
             }
         }
+        metrics.record(Operation.GET_AVAILABLE_TIME_SLOTS, start);
         return available;
     }
 
+    public List<AvailableSlot> findEarliestSlots(String specialty, String location, LocalDateTime from, int k) {
+        LocalDate lastDate = from.toLocalDate().plusDays(SEARCH_HORIZON_DAYS);
+        PriorityQueue<SlotCandidate> candidates = new PriorityQueue<>();
+        for (Doctor doctor : candidateDoctors(specialty, location)) {
+            FreeSlotIterator slots = new FreeSlotIterator(doctor, occupancy, from, lastDate);
+            if (slots.hasNext()) {
+                candidates.add(new SlotCandidate(doctor, slots));
+            }
+        }
+        List<AvailableSlot> result = new ArrayList<>(Math.max(0, Math.min(k, 64)));
+        while (result.size() < k && !candidates.isEmpty()) {
+            SlotCandidate earliest = candidates.poll();
+            result.add(new AvailableSlot(earliest.doctor, earliest.schedule));
+            if (earliest.advance()) {
+                candidates.add(earliest);
+            }
+        }
+        return result;
+    }
+
+    private List<Doctor> candidateDoctors(String specialty, String location) {
+        if (location == null || location.isBlank()) {
+            return doctorsBySpecialty(specialty);
+        }
+        List<Doctor> atClinic = doctorsByClinic.get(Keys.of(location));
+        if (atClinic == null) {
+            return doctorsBySpecialty(specialty, location);
+        }
+        String specialtyKey = Keys.folded(specialty);
+        List<Doctor> result = new ArrayList<>();
+        for (Doctor doctor : atClinic) {
+            if (specialtyKeyOf(doctor).equals(specialtyKey)) {
+                result.add(doctor);
+            }
+        }
+        return result;
+    }
+
+    private String specialtyKeyOf(Doctor doctor) {
+        String key = specialtyKeys.get(Keys.of(doctor.id()));
+        return key != null ? key : Keys.folded(doctor.specialty());
+    }
+
+    private static final class SlotCandidate implements Comparable<SlotCandidate> {
+
+        private final Doctor doctor;
+        private final FreeSlotIterator slots;
+        private LocalDateTime schedule;
+
+        private SlotCandidate(Doctor doctor, FreeSlotIterator slots) {
+            this.doctor = doctor;
+            this.slots = slots;
+            this.schedule = slots.next();
+        }
+
+        private boolean advance() {
+            if (!slots.hasNext()) {
+                return false;
+            }
+            schedule = slots.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(SlotCandidate other) {
+            int diff = schedule.compareTo(other.schedule);
+            return diff != 0 ? diff : doctor.id().compareTo(other.doctor.id());
+        }
+    }
+
     public Appointment peekAppointment() {
         return appointments.peek();
     }
 
     public Appointment pollAppointment() {
+        Instrumentation metrics = instrumentation;
+        long start = metrics.start();
         Appointment appointment = appointments.poll();
         if (appointment != null) {
-            registeredAppointments.remove(appointment);
+            release(appointment, true);
         }
+        metrics.record(Operation.POLL_APPOINTMENT, start);
         return appointment;
     }
 
+    public Optional<Appointment> attendAppointment(String document, LocalDateTime schedule) {
+        Appointment appointment = registeredAppointments.get(new AppointmentKey(document, schedule));
+        if (appointment == null || !appointments.remove(appointment)) {
+            return Optional.empty();
+        }
+        release(appointment, true);
+        return Optional.of(appointment);
+    }
+
+    public Optional<Appointment> cancelAppointment(String document, LocalDateTime schedule) {
+        Appointment appointment = registeredAppointments.get(new AppointmentKey(document, schedule));
+        if (appointment == null || !appointments.remove(appointment)) {
+            return Optional.empty();
+        }
+        release(appointment, false);
+        return Optional.of(appointment);
+    }
+
+    public Appointment rescheduleAppointment(String document, LocalDateTime schedule, LocalDateTime newSchedule) {
+        Appointment current = registeredAppointments.get(new AppointmentKey(document, schedule));
+        if (current == null) {
+            throw new IllegalArgumentException("No existe una cita pendiente para el paciente en " + schedule + ".");
+        }
+        if (current.schedule().equals(newSchedule)) {
+            return current;
+        }
+        Appointment moved = new Appointment(current.patient(), current.doctor(), current.clinic(), current.type(), newSchedule);
+        addAppointment(moved);
+        if (!appointments.remove(current)) {
+            cancelAppointment(document, newSchedule);
+            throw new IllegalArgumentException("La cita del " + schedule + " ya fue atendida o cancelada.");
+        }
+        release(current, false);
+        return moved;
+    }
+
+    public Appointment peekClinicAppointment(String clinicCode) {
+        return peekLive(clinicQueues.queue(clinicCode));
+    }
+
+    public Appointment pollClinicAppointment(String clinicCode) {
+        return pollLive(clinicQueues.queue(clinicCode));
+    }
+
+    public Appointment peekDoctorAppointment(String doctorId) {
+        return peekLive(doctorQueues.queue(doctorId));
+    }
+
+    public Appointment pollDoctorAppointment(String doctorId) {
+        return pollLive(doctorQueues.queue(doctorId));
+    }
+
+    private Appointment peekLive(PriorityBuckets queue) {
+        Iterator<Appointment> iterator = queue.servingOrder();
+        while (iterator.hasNext()) {
+            Appointment appointment = iterator.next();
+            if (appointments.contains(appointment)) {
+                return appointment;
+            }
+        }
+        return null;
+    }
+
+    private Appointment pollLive(PriorityBuckets queue) {
+        Appointment appointment;
+        while ((appointment = queue.poll()) != null) {
+            if (appointments.remove(appointment)) {
+                release(appointment, true);
+                return appointment;
+            }
+        }
+        return null;
+    }
+
+    private void release(Appointment appointment, boolean attended) {
+        AppointmentKey key = AppointmentKey.of(appointment);
+        synchronized (occupancy.lockFor(appointment.doctor())) {
+            String patientKey = Keys.of(key.document());
+            synchronized (patientLocks.lockFor(patientKey)) {
+                try {
+                    if (attended) {
+                        listener.appointmentAttended(appointment);
+                    } else {
+                        listener.appointmentCancelled(appointment);
+                    }
+                } catch (RuntimeException e) {
+                    appointments.add(appointment);
+                    clinicQueues.add(appointment.clinic().code(), appointment);
+                    doctorQueues.add(appointment.doctor().id(), appointment);
+                    throw e;
+                }
+                clinicQueues.remove(appointment.clinic().code(), appointment);
+                doctorQueues.remove(appointment.doctor().id(), appointment);
+                clinicAgendas.remove(appointment.clinic().code(), appointment);
+                doctorAgendas.remove(appointment.doctor().id(), appointment);
+                queryIndex.remove(appointment, specialtyKeyOf(appointment.doctor()));
+                registeredAppointments.remove(key, appointment);
+                PatientHistory history = histories.get(patientKey);
+                if (history != null) {
+                    history.released(appointment, attended);
+                }
+                occupancy.release(appointment.doctor(), appointment.schedule());
+            }
+        }
+        listener.awaitDurable();
+    }
+
+    Collection<Appointment> registeredAppointments() {
+        return new ArrayList<>(registeredAppointments.values());
+    }
+
+    public List<Appointment> agenda(String doctorId, LocalDateTime from, LocalDateTime to) {
+        return doctorAgendas.range(doctorId, from, to);
+    }
+
+    public List<Appointment> clinicAgenda(String clinicCode, LocalDate date) {
+        return clinicAgendas.range(clinicCode, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    public List<Appointment> query(AppointmentQuery query) {
+        return queryIndex.query(query, appointments);
+    }
+
+    public int count(AppointmentQuery query) {
+        return queryIndex.count(query);
+    }
+
     public List<Appointment> previewAppointments(int limit) {
-        List<Appointment> snapshot = new ArrayList<>(appointments);
-        snapshot.sort(Comparator.naturalOrder());
-        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+        return previewAppointments(null, limit).appointments();
     }
 
-    public void clearAll() {
-        clinics.clear();
-        doctors.clear();
-        appointments.clear();
-        registeredAppointments.clear();
+    public QueuePage previewAppointments(QueueCursor after, int limit) {
+        Instrumentation metrics = instrumentation;
+        long start = metrics.start();
+        QueuePage page = appointments.page(after, limit);
+        metrics.record(Operation.PREVIEW_APPOINTMENTS, start);
+        return page;
     }
-}
 
+    public Map<String, Integer> queueDepthByClinic() {
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        for (ClinicSite clinic : catalog.get().clinics()) {
+            depths.put(clinic.code(), clinicQueues.queue(clinic.code()).size());
+        }
+        return depths;
+    }
+
+    public Map<PriorityLevel, Integer> queueDepthByPriority() {
+        Map<PriorityLevel, Integer> depths = new EnumMap<>(PriorityLevel.class);
+        for (PriorityLevel priority : PriorityLevel.values()) {
+            depths.put(priority, appointments.size(priority));
+        }
+        return depths;
+    }
 
+    public void clearAll() {
+        synchronized (registrationLock) {
+            listener.cleared();
+            clinics.clear();
+            catalog.set(catalog.get().cleared());
+            doctors.clear();
+            doctorsByClinic.clear();
+            clinicsByCity.clear();
+            doctorsBySpecialty.clear();
+            doctorsByCity.clear();
+            specialtyKeys.clear();
+            appointments.clear();
+            clinicQueues.clear();
+            doctorQueues.clear();
+            clinicAgendas.clear();
+            doctorAgendas.clear();
+            queryIndex.clear();
+            registeredAppointments.clear();
+            patients.clear();
+            histories.clear();
+            occupancy.clear();
+        }
+        listener.awaitDurable();
+    }
+}
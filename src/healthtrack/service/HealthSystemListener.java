@@ -0,0 +1,32 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+
+public interface HealthSystemListener {
+
+    HealthSystemListener NONE = new HealthSystemListener() {
+    };
+
+    default void clinicAdded(ClinicSite clinic) {
+    }
+
+    default void doctorAdded(Doctor doctor) {
+    }
+
+    default void appointmentAdded(Appointment appointment) {
+    }
+
+    default void appointmentAttended(Appointment appointment) {
+    }
+
+    default void appointmentCancelled(Appointment appointment) {
+    }
+
+    default void cleared() {
+    }
+
+    default void awaitDurable() {
+    }
+}
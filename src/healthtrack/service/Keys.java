@@ -0,0 +1,24 @@
+package healthtrack.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class Keys {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private Keys() {
+    }
+
+    public static String of(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String folded(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
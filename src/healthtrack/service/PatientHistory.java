@@ -0,0 +1,45 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+final class PatientHistory {
+
+    static final int ATTENDED_LIMIT = 50;
+
+    private final NavigableMap<LocalDateTime, Appointment> pending = new TreeMap<>();
+    private final Deque<Appointment> attended = new ArrayDeque<>();
+
+    void booked(Appointment appointment) {
+        pending.put(appointment.schedule(), appointment);
+    }
+
+    void released(Appointment appointment, boolean wasAttended) {
+        pending.remove(appointment.schedule(), appointment);
+        if (wasAttended) {
+            if (attended.size() == ATTENDED_LIMIT) {
+                attended.removeFirst();
+            }
+            attended.addLast(appointment);
+        }
+    }
+
+    boolean isPending(Appointment appointment) {
+        return appointment.equals(pending.get(appointment.schedule()));
+    }
+
+    List<Appointment> pending() {
+        return new ArrayList<>(pending.values());
+    }
+
+    List<Appointment> attended() {
+        return new ArrayList<>(attended);
+    }
+}
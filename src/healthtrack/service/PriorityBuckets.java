@@ -0,0 +1,249 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.PriorityLevel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+final class PriorityBuckets implements Iterable<Appointment> {
+
+    private static final PriorityLevel[] LEVELS = levelsByWeight();
+
+    private final NavigableSet<Appointment>[] buckets;
+    private final AtomicIntegerArray sizes = new AtomicIntegerArray(LEVELS.length);
+    private final Supplier<AgingPolicy> aging;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    PriorityBuckets(Supplier<AgingPolicy> aging) {
+        this.aging = aging;
+        this.buckets = new NavigableSet[LEVELS.length];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ConcurrentSkipListSet<>();
+        }
+    }
+
+    boolean add(Appointment appointment) {
+        if (!bucketOf(appointment).add(appointment)) {
+            return false;
+        }
+        sizes.incrementAndGet(appointment.priority().ordinal());
+        return true;
+    }
+
+    boolean remove(Appointment appointment) {
+        if (!bucketOf(appointment).remove(appointment)) {
+            return false;
+        }
+        sizes.decrementAndGet(appointment.priority().ordinal());
+        return true;
+    }
+
+    boolean contains(Appointment appointment) {
+        return bucketOf(appointment).contains(appointment);
+    }
+
+    Appointment peek() {
+        AgingPolicy policy = aging.get();
+        if (!policy.isEnabled()) {
+            for (NavigableSet<Appointment> bucket : buckets) {
+                Appointment head = headOf(bucket);
+                if (head != null) {
+                    return head;
+                }
+            }
+            return null;
+        }
+        LocalDateTime now = policy.now();
+        Appointment best = null;
+        for (NavigableSet<Appointment> bucket : buckets) {
+            Appointment head = headOf(bucket);
+            if (head != null && (best == null || policy.compare(head, best, now) < 0)) {
+                best = head;
+            }
+        }
+        return best;
+    }
+
+    Appointment poll() {
+        Appointment head;
+        while ((head = peek()) != null) {
+            if (remove(head)) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        int total = 0;
+        for (int i = 0; i < LEVELS.length; i++) {
+            total += sizes.get(i);
+        }
+        return total;
+    }
+
+    int size(PriorityLevel priority) {
+        return sizes.get(priority.ordinal());
+    }
+
+    @Override
+    public Iterator<Appointment> iterator() {
+        return new Concatenation(null);
+    }
+
+    Iterator<Appointment> after(Appointment cursor) {
+        return new Concatenation(cursor);
+    }
+
+    Iterator<Appointment> servingOrder() {
+        AgingPolicy policy = aging.get();
+        return policy.isEnabled() ? new AgedMerge(policy, policy.now(), new Appointment[buckets.length]) : iterator();
+    }
+
+    QueuePage page(QueueCursor after, int limit) {
+        AgedMerge merge;
+        if (after == null) {
+            AgingPolicy policy = aging.get();
+            merge = new AgedMerge(policy, policy.now(), new Appointment[buckets.length]);
+        } else {
+            Appointment[] positions = new Appointment[buckets.length];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = after.position(i);
+            }
+            merge = new AgedMerge(after.policy(), after.now(), positions);
+        }
+        List<Appointment> result = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        while (result.size() < limit && merge.hasNext()) {
+            result.add(merge.next());
+        }
+        return new QueuePage(result, merge.cursor());
+    }
+
+    void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i].clear();
+            sizes.set(i, 0);
+        }
+    }
+
+    private NavigableSet<Appointment> bucketOf(Appointment appointment) {
+        return buckets[indexOf(appointment.priority())];
+    }
+
+    private static Appointment headOf(NavigableSet<Appointment> bucket) {
+        Iterator<Appointment> iterator = bucket.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static int indexOf(PriorityLevel priority) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i] == priority) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Prioridad desconocida: " + priority);
+    }
+
+    private static PriorityLevel[] levelsByWeight() {
+        PriorityLevel[] levels = PriorityLevel.values().clone();
+        Arrays.sort(levels, Comparator.comparingInt(PriorityLevel::weight));
+        return levels;
+    }
+
+    private final class Concatenation implements Iterator<Appointment> {
+
+        private int bucket;
+        private Iterator<Appointment> current;
+
+        private Concatenation(Appointment cursor) {
+            if (cursor == null) {
+                current = buckets[0].iterator();
+            } else {
+                bucket = indexOf(cursor.priority());
+                current = buckets[bucket].tailSet(cursor, false).iterator();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (++bucket == buckets.length) {
+                    return false;
+                }
+                current = buckets[bucket].iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Appointment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private final class AgedMerge implements Iterator<Appointment> {
+
+        private final AgingPolicy policy;
+        private final LocalDateTime now;
+        private final Iterator<Appointment>[] sources;
+        private final Appointment[] heads;
+        private final Appointment[] served;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private AgedMerge(AgingPolicy policy, LocalDateTime now, Appointment[] served) {
+            this.policy = policy;
+            this.now = now;
+            this.served = served;
+            this.sources = new Iterator[buckets.length];
+            this.heads = new Appointment[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                sources[i] = served[i] == null ? buckets[i].iterator() : buckets[i].tailSet(served[i], false).iterator();
+                heads[i] = sources[i].hasNext() ? sources[i].next() : null;
+            }
+        }
+
+        private QueueCursor cursor() {
+            return new QueueCursor(policy, now, served.clone());
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (Appointment head : heads) {
+                if (head != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Appointment next() {
+            int chosen = -1;
+            for (int i = 0; i < heads.length; i++) {
+                if (heads[i] != null && (chosen < 0 || policy.compare(heads[i], heads[chosen], now) < 0)) {
+                    chosen = i;
+                }
+            }
+            if (chosen < 0) {
+                throw new NoSuchElementException();
+            }
+            Appointment result = heads[chosen];
+            served[chosen] = result;
+            heads[chosen] = sources[chosen].hasNext() ? sources[chosen].next() : null;
+            return result;
+        }
+    }
+}
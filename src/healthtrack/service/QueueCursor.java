@@ -0,0 +1,30 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.time.LocalDateTime;
+
+public final class QueueCursor {
+
+    private final AgingPolicy policy;
+    private final LocalDateTime now;
+    private final Appointment[] positions;
+
+    QueueCursor(AgingPolicy policy, LocalDateTime now, Appointment[] positions) {
+        this.policy = policy;
+        this.now = now;
+        this.positions = positions;
+    }
+
+    AgingPolicy policy() {
+        return policy;
+    }
+
+    public LocalDateTime now() {
+        return now;
+    }
+
+    Appointment position(int bucket) {
+        return positions[bucket];
+    }
+}
@@ -0,0 +1,29 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class QueuePage {
+
+    private final List<Appointment> appointments;
+    private final QueueCursor next;
+
+    QueuePage(List<Appointment> appointments, QueueCursor next) {
+        this.appointments = Objects.requireNonNull(appointments, "appointments");
+        this.next = Objects.requireNonNull(next, "next");
+    }
+
+    public List<Appointment> appointments() {
+        return appointments;
+    }
+
+    public QueueCursor next() {
+        return next;
+    }
+
+    public boolean isEmpty() {
+        return appointments.isEmpty();
+    }
+}
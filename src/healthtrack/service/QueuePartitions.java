@@ -0,0 +1,38 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+final class QueuePartitions {
+
+    private final Map<String, PriorityBuckets> partitions = new ConcurrentHashMap<>();
+    private final Supplier<AgingPolicy> aging;
+    private final PriorityBuckets empty;
+
+    QueuePartitions(Supplier<AgingPolicy> aging) {
+        this.aging = aging;
+        this.empty = new PriorityBuckets(aging);
+    }
+
+    void add(String partition, Appointment appointment) {
+        partitions.computeIfAbsent(Keys.of(partition), key -> new PriorityBuckets(aging)).add(appointment);
+    }
+
+    void remove(String partition, Appointment appointment) {
+        PriorityBuckets queue = partitions.get(Keys.of(partition));
+        if (queue != null) {
+            queue.remove(appointment);
+        }
+    }
+
+    PriorityBuckets queue(String partition) {
+        return partitions.getOrDefault(Keys.of(partition), empty);
+    }
+
+    void clear() {
+        partitions.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package healthtrack.service;
+
+import healthtrack.model.Doctor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class SlotOccupancy {
+
+    private final Map<String, Map<LocalDate, BitSet>> byDoctor = new ConcurrentHashMap<>();
+    private final StripedLocks locks = new StripedLocks(256);
+
+    Object lockFor(Doctor doctor) {
+        return locks.lockFor(Keys.of(doctor.id()));
+    }
+
+    boolean isOccupied(Doctor doctor, LocalDateTime schedule) {
+        int slot = doctor.availability().slotIndexOf(schedule.toLocalTime());
+        return slot >= 0 && isOccupied(doctor, schedule.toLocalDate(), slot);
+    }
+
+    boolean isOccupied(Doctor doctor, LocalDate date, int slot) {
+        String key = Keys.of(doctor.id());
+        synchronized (locks.lockFor(key)) {
+            BitSet day = day(key, date);
+            return day != null && day.get(slot);
+        }
+    }
+
+    BitSet occupiedSlots(Doctor doctor, LocalDate date) {
+        String key = Keys.of(doctor.id());
+        synchronized (locks.lockFor(key)) {
+            BitSet day = day(key, date);
+            return day == null ? new BitSet() : (BitSet) day.clone();
+        }
+    }
+
+    int nextFreeSlot(Doctor doctor, LocalDate date, int fromSlot) {
+        String key = Keys.of(doctor.id());
+        synchronized (locks.lockFor(key)) {
+            BitSet day = day(key, date);
+            return day == null ? fromSlot : day.nextClearBit(fromSlot);
+        }
+    }
+
+    boolean tryOccupy(Doctor doctor, LocalDateTime schedule) {
+        int slot = doctor.availability().slotIndexOf(schedule.toLocalTime());
+        if (slot < 0) {
+            return false;
+        }
+        String key = Keys.of(doctor.id());
+        synchronized (locks.lockFor(key)) {
+            BitSet day = byDoctor.computeIfAbsent(key, id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(schedule.toLocalDate(), date -> new BitSet());
+            if (day.get(slot)) {
+                return false;
+            }
+            day.set(slot);
+            return true;
+        }
+    }
+
+    void release(Doctor doctor, LocalDateTime schedule) {
+        int slot = doctor.availability().slotIndexOf(schedule.toLocalTime());
+        if (slot < 0) {
+            return;
+        }
+        String key = Keys.of(doctor.id());
+        synchronized (locks.lockFor(key)) {
+            Map<LocalDate, BitSet> days = byDoctor.get(key);
+            if (days == null) {
+                return;
+            }
+            BitSet day = days.get(schedule.toLocalDate());
+            if (day == null) {
+                return;
+            }
+            day.clear(slot);
+            if (day.isEmpty()) {
+                days.remove(schedule.toLocalDate());
+                if (days.isEmpty()) {
+                    byDoctor.remove(key);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        byDoctor.clear();
+    }
+
+    private BitSet day(String key, LocalDate date) {
+        Map<LocalDate, BitSet> days = byDoctor.get(key);
+        return days == null ? null : days.get(date);
+    }
+}
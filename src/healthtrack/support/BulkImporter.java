@@ -0,0 +1,254 @@
+package healthtrack.support;
+
+import healthtrack.model.Appointment;
+import healthtrack.persistence.PersistentHealthSystem;
+import healthtrack.service.BookingResult;
+import healthtrack.service.HealthSystem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public final class BulkImporter {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_REPORTED_REJECTIONS = 1_000;
+    private static final List<Row> END = new ArrayList<>();
+
+    private final HealthSystem system;
+    private final int workers;
+
+    public BulkImporter(HealthSystem system) {
+        this(system, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public BulkImporter(HealthSystem system, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un hilo de importación");
+        }
+        this.system = system;
+        this.workers = workers;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        if (options.containsKey("data")) {
+            try (PersistentHealthSystem persistent = PersistentHealthSystem.open(Path.of(options.get("data")))) {
+                importAll(new BulkImporter(persistent.system()), options);
+                persistent.snapshot();
+            }
+        } else {
+            importAll(new BulkImporter(new HealthSystem()), options);
+        }
+    }
+
+    private static void importAll(BulkImporter importer, Map<String, String> options) throws IOException, InterruptedException {
+        if (options.containsKey("clinics")) {
+            print(importer.importClinics(Path.of(options.get("clinics"))));
+        }
+        if (options.containsKey("doctors")) {
+            print(importer.importDoctors(Path.of(options.get("doctors"))));
+        }
+        if (options.containsKey("appointments")) {
+            print(importer.importAppointments(Path.of(options.get("appointments"))));
+        }
+    }
+
+    private static void print(ImportReport report) {
+        System.out.println(report.summary());
+        for (String rejection : report.rejections()) {
+            System.out.println("  " + rejection);
+        }
+    }
+
+    public ImportReport importClinics(Path file) throws IOException, InterruptedException {
+        return run(file, (batch, report) -> {
+            for (Row row : batch) {
+                try {
+                    if (system.addClinic(RecordFields.clinic(row.fields))) {
+                        report.accept(1);
+                    } else {
+                        report.reject(row.line, "Ya existe una sede con ese código.");
+                    }
+                } catch (RuntimeException e) {
+                    report.reject(row.line, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public ImportReport importDoctors(Path file) throws IOException, InterruptedException {
+        return run(file, (batch, report) -> {
+            for (Row row : batch) {
+                try {
+                    system.addDoctor(RecordFields.doctor(row.fields));
+                    report.accept(1);
+                } catch (RuntimeException e) {
+                    report.reject(row.line, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public ImportReport importAppointments(Path file) throws IOException, InterruptedException {
+        return run(file, (batch, report) -> {
+            List<Appointment> appointments = new ArrayList<>(batch.size());
+            List<Row> rows = new ArrayList<>(batch.size());
+            for (Row row : batch) {
+                try {
+                    appointments.add(RecordFields.appointment(row.fields, system));
+                    rows.add(row);
+                } catch (RuntimeException e) {
+                    report.reject(row.line, e.getMessage());
+                }
+            }
+            List<BookingResult> results = system.addAppointments(appointments);
+            int accepted = 0;
+            for (int i = 0; i < results.size(); i++) {
+                BookingResult result = results.get(i);
+                if (result.accepted()) {
+                    accepted++;
+                } else {
+                    report.reject(rows.get(i).line, result.message());
+                }
+            }
+            report.accept(accepted);
+        });
+    }
+
+    private ImportReport run(Path file, BatchHandler handler) throws IOException, InterruptedException {
+        ImportReport report = new ImportReport(file.getFileName().toString(), MAX_REPORTED_REJECTIONS);
+        BlockingQueue<List<Row>> queue = new ArrayBlockingQueue<>(workers * 2);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            pool.submit(() -> {
+                try {
+                    List<Row> batch;
+                    while ((batch = queue.take()) != END) {
+                        try {
+                            handler.handle(batch, report);
+                        } catch (RuntimeException e) {
+                            for (Row row : batch) {
+                                report.reject(row.line, e.getMessage());
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        try {
+            parse(file, queue, report);
+        } finally {
+            for (int i = 0; i < workers; i++) {
+                queue.put(END);
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        return report;
+    }
+
+    private static void parse(Path file, BlockingQueue<List<Row>> queue, ImportReport report) throws IOException, InterruptedException {
+        boolean jsonLines = file.getFileName().toString().endsWith(".jsonl");
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String[] header = null;
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    if (jsonLines) {
+                        batch.add(new Row(lineNumber, FlatJson.parseObject(line)));
+                    } else if (header == null) {
+                        header = splitCsv(line).toArray(new String[0]);
+                    } else {
+                        batch.add(new Row(lineNumber, toFields(header, splitCsv(line))));
+                    }
+                } catch (IllegalArgumentException e) {
+                    report.reject(lineNumber, e.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    queue.put(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                queue.put(batch);
+            }
+        }
+    }
+
+    private static Map<String, String> toFields(String[] header, List<String> values) {
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("Se esperaban " + header.length + " columnas y se encontraron " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length; i++) {
+            fields.put(header[i].trim(), values.get(i).trim());
+        }
+        return fields;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private interface BatchHandler {
+        void handle(List<Row> batch, ImportReport report);
+    }
+
+    private static final class Row {
+
+        private final long line;
+        private final Map<String, String> fields;
+
+        private Row(long line, Map<String, String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+}
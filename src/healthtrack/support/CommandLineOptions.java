@@ -0,0 +1,23 @@
+package healthtrack.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CommandLineOptions {
+
+    private CommandLineOptions() {
+    }
+
+    public static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (usa clave=valor)");
+            }
+            options.put(trimmed.substring(0, separator), trimmed.substring(separator + 1));
+        }
+        return options;
+    }
+}
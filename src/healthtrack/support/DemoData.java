@@ -13,6 +13,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
@@ -26,6 +27,14 @@ public final class DemoData {
             "Juan Díaz", "Mariana López", "Sebastián Torres"
     };
 
+    private static final String[] CITIES = {
+            "Bogotá", "Medellín", "Cali", "Barranquilla", "Cartagena", "Bucaramanga", "Pereira", "Manizales"
+    };
+
+    private static final String[] SPECIALTIES = {
+            "Medicina General", "Cardiología", "Pediatría", "Medicina Interna", "Dermatología", "Ginecología"
+    };
+
     private DemoData() {
     }
 
@@ -94,6 +103,64 @@ public final class DemoData {
         }
     }
 
+    public static void loadScenario(HealthSystem system, int clinicCount, int doctorCount, int appointmentCount,
+                                    long seed, LocalDate baseDate) {
+        system.clearAll();
+        Random random = new Random(seed);
+
+        List<ClinicSite> clinics = new ArrayList<>(clinicCount);
+        for (int i = 0; i < clinicCount; i++) {
+            ClinicSite clinic = new ClinicSite(String.format("SED-%04d", i), "Sede " + i, CITIES[i % CITIES.length]);
+            system.addClinic(clinic);
+            clinics.add(clinic);
+        }
+
+        DoctorAvailability[] shifts = scenarioShifts();
+        List<Doctor> doctors = new ArrayList<>(doctorCount);
+        for (int i = 0; i < doctorCount; i++) {
+            ClinicSite clinic = clinics.get(i % clinics.size());
+            Doctor doctor = new Doctor(String.format("MED-%06d", i), NAMES[random.nextInt(NAMES.length)],
+                    SPECIALTIES[random.nextInt(SPECIALTIES.length)], clinic.code(), shifts[random.nextInt(shifts.length)]);
+            system.addDoctor(doctor);
+            doctors.add(doctor);
+        }
+
+        int horizonDays = scenarioHorizon(doctorCount, appointmentCount);
+        int index = 0;
+        while (index < appointmentCount) {
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            DoctorAvailability availability = doctor.availability();
+            LocalDate date = baseDate.plusDays(random.nextInt(horizonDays));
+            if (!availability.isAvailableOn(date.getDayOfWeek())) {
+                continue;
+            }
+            LocalTime time = availability.slotAt(random.nextInt(availability.slotCount()));
+            ClinicSite clinic = system.findClinic(doctor.clinicCode()).orElseThrow();
+            AppointmentType type = AppointmentType.values()[random.nextInt(AppointmentType.values().length)];
+            try {
+                system.addAppointment(new Appointment(createPatient(index, random), doctor, clinic, type, LocalDateTime.of(date, time)));
+                index++;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    public static int scenarioHorizon(int doctorCount, int appointmentCount) {
+        long slotsPerDoctorDay = 8;
+        long days = (2L * appointmentCount) / Math.max(1, doctorCount * slotsPerDoctorDay) + 1;
+        return (int) Math.max(30, days);
+    }
+
+    private static DoctorAvailability[] scenarioShifts() {
+        Set<DayOfWeek> weekdays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        Set<DayOfWeek> weekdaysPlusSaturday = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.SATURDAY);
+        return new DoctorAvailability[]{
+                new DoctorAvailability(weekdays, LocalTime.of(8, 0), LocalTime.of(12, 0), 20),
+                new DoctorAvailability(weekdays, LocalTime.of(14, 0), LocalTime.of(18, 0), 20),
+                new DoctorAvailability(weekdaysPlusSaturday, LocalTime.of(8, 0), LocalTime.of(17, 0), 30)
+        };
+    }
+
     private static Patient createPatient(int index, Random random) {
         String document = "PT-" + String.format("%04d", index);
         String name = NAMES[random.nextInt(NAMES.length)];
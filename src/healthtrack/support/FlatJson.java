@@ -0,0 +1,127 @@
+package healthtrack.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class FlatJson {
+
+    private FlatJson() {
+    }
+
+    public static Map<String, String> parseObject(String line) {
+        Map<String, String> fields = new HashMap<>();
+        int[] position = {skipSpaces(line, 0)};
+        expect(line, position, '{');
+        if (peek(line, position) == '}') {
+            return fields;
+        }
+        while (true) {
+            String key = readValue(line, position);
+            expect(line, position, ':');
+            fields.put(key, readValue(line, position));
+            char next = peek(line, position);
+            position[0]++;
+            if (next == '}') {
+                return fields;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("JSON inválido en la posición " + position[0]);
+            }
+        }
+    }
+
+    private static String readValue(String line, int[] position) {
+        char first = peek(line, position);
+        if (first != '"') {
+            int start = position[0];
+            while (position[0] < line.length() && ",}: \t".indexOf(line.charAt(position[0])) < 0) {
+                position[0]++;
+            }
+            String literal = line.substring(start, position[0]);
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("JSON inválido en la posición " + start);
+            }
+            return literal.equals("null") ? "" : literal;
+        }
+        StringBuilder value = new StringBuilder();
+        int i = position[0] + 1;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c == '"') {
+                position[0] = i;
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (i >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(i++);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (i + 4 > line.length()) {
+                        throw new IllegalArgumentException("Secuencia \\u incompleta");
+                    }
+                    value.append((char) Integer.parseInt(line.substring(i, i + 4), 16));
+                    i += 4;
+                }
+                default -> value.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("Cadena JSON sin cerrar");
+    }
+
+    private static char peek(String line, int[] position) {
+        position[0] = skipSpaces(line, position[0]);
+        if (position[0] >= line.length()) {
+            throw new IllegalArgumentException("JSON incompleto");
+        }
+        return line.charAt(position[0]);
+    }
+
+    private static void expect(String line, int[] position, char expected) {
+        if (peek(line, position) != expected) {
+            throw new IllegalArgumentException("Se esperaba '" + expected + "' en la posición " + position[0]);
+        }
+        position[0]++;
+    }
+
+    private static int skipSpaces(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
@@ -0,0 +1,45 @@
+package healthtrack.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ImportReport {
+
+    private final String source;
+    private final int maxDetails;
+    private final List<String> rejections = new ArrayList<>();
+    private long accepted;
+    private long rejected;
+
+    ImportReport(String source, int maxDetails) {
+        this.source = source;
+        this.maxDetails = maxDetails;
+    }
+
+    synchronized void accept(int count) {
+        accepted += count;
+    }
+
+    synchronized void reject(long line, String reason) {
+        rejected++;
+        if (rejections.size() < maxDetails) {
+            rejections.add("Línea " + line + ": " + reason);
+        }
+    }
+
+    public synchronized long accepted() {
+        return accepted;
+    }
+
+    public synchronized long rejected() {
+        return rejected;
+    }
+
+    public synchronized List<String> rejections() {
+        return new ArrayList<>(rejections);
+    }
+
+    public synchronized String summary() {
+        return source + ": " + accepted + " registros importados, " + rejected + " rechazados.";
+    }
+}
@@ -0,0 +1,82 @@
+package healthtrack.support;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PatientCategory;
+import healthtrack.service.HealthSystem;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public final class RecordFields {
+
+    private RecordFields() {
+    }
+
+    public static ClinicSite clinic(Map<String, String> fields) {
+        return new ClinicSite(required(fields, "code"), required(fields, "name"), required(fields, "city"));
+    }
+
+    public static Doctor doctor(Map<String, String> fields) {
+        DoctorAvailability availability = new DoctorAvailability(parseDays(required(fields, "days")),
+                LocalTime.parse(required(fields, "start")), LocalTime.parse(required(fields, "end")),
+                Integer.parseInt(required(fields, "slotMinutes")));
+        return new Doctor(required(fields, "id"), required(fields, "name"), required(fields, "specialty"),
+                required(fields, "clinicCode"), availability);
+    }
+
+    public static Appointment appointment(Map<String, String> fields, HealthSystem system) {
+        LocalDate birthDate = LocalDate.parse(required(fields, "birthDate"));
+        String categoryValue = optional(fields, "category");
+        PatientCategory category = categoryValue.isEmpty()
+                ? PatientCategory.fromBirthDate(birthDate)
+                : PatientCategory.valueOf(categoryValue.toUpperCase(Locale.ROOT));
+        Patient patient = system.canonicalPatient(
+                new Patient(required(fields, "document"), required(fields, "name"), birthDate, category));
+        Doctor doctor = system.findDoctor(required(fields, "doctorId"))
+                .orElseThrow(() -> new IllegalArgumentException("El médico no existe: " + required(fields, "doctorId")));
+        String clinicCode = optional(fields, "clinicCode").isEmpty() ? doctor.clinicCode() : optional(fields, "clinicCode");
+        ClinicSite clinic = system.findClinic(clinicCode)
+                .orElseThrow(() -> new IllegalArgumentException("La sede no existe: " + clinicCode));
+        AppointmentType type = AppointmentType.valueOf(required(fields, "type").toUpperCase(Locale.ROOT));
+        return new Appointment(patient, doctor, clinic, type, LocalDateTime.parse(required(fields, "schedule")));
+    }
+
+    private static Set<DayOfWeek> parseDays(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : value.split("[|; ]+")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            if (Character.isDigit(part.charAt(0))) {
+                days.add(DayOfWeek.of(Integer.parseInt(part)));
+            } else {
+                days.add(DayOfWeek.valueOf(part.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return days;
+    }
+
+    public static String required(Map<String, String> fields, String field) {
+        String value = fields.get(field);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("El campo " + field + " es obligatorio");
+        }
+        return value;
+    }
+
+    public static String optional(Map<String, String> fields, String field) {
+        String value = fields.get(field);
+        return value == null ? "" : value;
+    }
+}
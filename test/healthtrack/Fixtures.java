@@ -0,0 +1,68 @@
+package healthtrack;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.Patient;
+import healthtrack.model.PatientCategory;
+import healthtrack.service.HealthSystem;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+
+public final class Fixtures {
+
+    public static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+    public static final ClinicSite CLINIC = new ClinicSite("SED-1", "Sede Norte", "Bogotá");
+    public static final DoctorAvailability MORNINGS = everyDay(LocalTime.of(8, 0), LocalTime.of(12, 0));
+    public static final Doctor DOCTOR = new Doctor("MED-1", "Laura Gómez", "Medicina General", CLINIC.code(), MORNINGS);
+
+    private Fixtures() {
+    }
+
+    public static DoctorAvailability everyDay(LocalTime start, LocalTime end) {
+        return new DoctorAvailability(EnumSet.allOf(DayOfWeek.class), start, end, 20);
+    }
+
+    public static Doctor doctor(String id, String specialty) {
+        return new Doctor(id, "Médico " + id, specialty, CLINIC.code(), MORNINGS);
+    }
+
+    public static Patient patient(String document) {
+        return patient(document, PatientCategory.ADULTO);
+    }
+
+    public static Patient patient(String document, PatientCategory category) {
+        return new Patient(document, "Paciente " + document, LocalDate.of(1980, 1, 1), category);
+    }
+
+    public static Appointment appointment(String document, Doctor doctor, LocalDateTime schedule) {
+        return appointment(patient(document), doctor, schedule);
+    }
+
+    public static Appointment appointment(Patient patient, Doctor doctor, LocalDateTime schedule) {
+        return new Appointment(patient, doctor, CLINIC, AppointmentType.GENERAL, schedule);
+    }
+
+    public static LocalDateTime monday(int hour, int minute) {
+        return MONDAY.atTime(hour, minute);
+    }
+
+    public static HealthSystem systemWith(Doctor... doctors) {
+        HealthSystem system = new HealthSystem();
+        register(system, doctors);
+        return system;
+    }
+
+    public static void register(HealthSystem system, Doctor... doctors) {
+        system.addClinic(CLINIC);
+        for (Doctor doctor : doctors) {
+            system.addDoctor(doctor);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package healthtrack.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.patient;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AppointmentOrderTest {
+
+    private static final Comparator<Appointment> BY_PRIORITY_SCHEDULE_DOCUMENT =
+            Comparator.comparingInt((Appointment appointment) -> appointment.priority().weight())
+                    .thenComparing(Appointment::schedule)
+                    .thenComparing(appointment -> appointment.patient().document());
+
+    @Test
+    void sortKeyOrderMatchesPriorityThenScheduleThenDocument() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<LocalDateTime> schedules = List.of(LocalDateTime.MIN, LocalDateTime.MAX, monday(8, 0),
+                monday(8, 0).withSecond(30), monday(8, 0).withNano(1), monday(7, 59).withSecond(59),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59), LocalDateTime.of(1970, 1, 1, 0, 0));
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime schedule = random.nextInt(4) == 0
+                    ? schedules.get(random.nextInt(schedules.size()))
+                    : monday(0, 0).plusSeconds(random.nextLong(-3_000_000_000L, 3_000_000_000L));
+            PatientCategory category = PatientCategory.values()[random.nextInt(PatientCategory.values().length)];
+            appointments.add(new Appointment(patient("CC-" + random.nextInt(50), category), DOCTOR, CLINIC,
+                    AppointmentType.GENERAL, schedule));
+        }
+
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment left = appointments.get(i);
+            for (int j = i; j < appointments.size(); j += 1 + random.nextInt(7)) {
+                Appointment right = appointments.get(j);
+                assertEquals(Integer.signum(BY_PRIORITY_SCHEDULE_DOCUMENT.compare(left, right)),
+                        Integer.signum(left.compareTo(right)), left.describe() + " vs " + right.describe());
+            }
+        }
+        List<Appointment> expected = new ArrayList<>(appointments);
+        expected.sort(BY_PRIORITY_SCHEDULE_DOCUMENT);
+        List<Appointment> actual = new ArrayList<>(appointments);
+        actual.sort(null);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void higherPrioritiesComeFirstWhateverTheSchedule() {
+        Appointment urgentLate = new Appointment(patient("CC-1", PatientCategory.URGENCIA), DOCTOR, CLINIC,
+                AppointmentType.GENERAL, LocalDateTime.MAX);
+        Appointment childEarly = new Appointment(patient("CC-2", PatientCategory.NINO), DOCTOR, CLINIC,
+                AppointmentType.GENERAL, LocalDateTime.MIN);
+
+        assertEquals(-1, Integer.signum(urgentLate.compareTo(childEarly)));
+        assertEquals(-1, Long.signum(Long.compare(urgentLate.sortKey(), childEarly.sortKey())));
+    }
+}
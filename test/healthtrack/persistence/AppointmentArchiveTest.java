@@ -0,0 +1,99 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import healthtrack.service.HealthSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AppointmentArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopenedWriterKeepsIdentifiersAndAppendsAfterTheDurableTable() throws IOException {
+        Path archive = directory.resolve("atendidas.bin");
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            writer.append(appointment("CC-1", 8, 0));
+            writer.append(appointment("CC-2", 8, 20));
+            writer.flush();
+        }
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            writer.append(appointment("CC-1", 9, 0));
+            writer.append(appointment("CC-3", 9, 20));
+        }
+
+        try (AppointmentArchive reader = AppointmentArchive.open(archive)) {
+            List<String> patients = new ArrayList<>();
+            reader.scan(MONDAY, MONDAY, row -> patients.add(row.patientDocument()));
+            assertEquals(4, reader.size());
+            assertEquals(List.of("CC-1", "CC-2", "CC-1", "CC-3"), patients);
+        }
+    }
+
+    @Test
+    void staleIdentifierTableFromAnAbandonedArchiveIsDiscarded() throws IOException {
+        Path archive = directory.resolve("atendidas.bin");
+        Files.writeString(ArchiveFormat.stringsPath(archive), "basura");
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            writer.append(appointment("CC-1", 8, 0));
+        }
+        try (AppointmentArchive reader = AppointmentArchive.open(archive)) {
+            List<String> patients = new ArrayList<>();
+            reader.scan(MONDAY, MONDAY, row -> patients.add(row.patientDocument()));
+            assertEquals(List.of("CC-1"), patients);
+        }
+    }
+
+    @Test
+    void attendedRecordsAreDurableWhenTheOperationReturns() throws IOException {
+        Path archive = directory.resolve("atendidas.bin");
+        HealthSystem system = systemWith(DOCTOR);
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            system.addListener(writer);
+            system.addAppointment(appointment("CC-1", 8, 0));
+            system.attendAppointment("CC-1", monday(8, 0));
+
+            try (AppointmentArchive reader = AppointmentArchive.open(archive)) {
+                assertEquals(1, reader.size());
+            }
+        }
+    }
+
+    @Test
+    void identifiersDifferingOnlyInCaseShareOneEntry() throws IOException {
+        Path archive = directory.resolve("atendidas.bin");
+        Doctor lowerCase = new Doctor("med-1", DOCTOR.name(), DOCTOR.specialty(), DOCTOR.clinicCode(), DOCTOR.availability());
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            writer.append(appointment("CC-1", 8, 0));
+            writer.append(healthtrack.Fixtures.appointment("cc-1", lowerCase, monday(8, 20)));
+        }
+        try (AppointmentArchiveWriter writer = AppointmentArchiveWriter.open(archive)) {
+            writer.append(healthtrack.Fixtures.appointment(" Cc-1 ", lowerCase, monday(8, 40)));
+        }
+
+        try (AppointmentArchive reader = AppointmentArchive.open(archive)) {
+            List<String> rows = new ArrayList<>();
+            reader.scanDoctor("Med-1", MONDAY, MONDAY, row -> rows.add(row.doctorId() + "/" + row.patientDocument()));
+            assertEquals(List.of("MED-1/CC-1", "MED-1/CC-1", "MED-1/CC-1"), rows);
+            assertEquals(3, reader.countDoctor("MED-1", MONDAY, MONDAY));
+        }
+    }
+
+    private static Appointment appointment(String document, int hour, int minute) {
+        return healthtrack.Fixtures.appointment(document, DOCTOR, monday(hour, minute));
+    }
+}
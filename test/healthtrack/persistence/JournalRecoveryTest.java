@@ -0,0 +1,96 @@
+package healthtrack.persistence;
+
+import healthtrack.model.ClinicSite;
+import healthtrack.service.HealthSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.register;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void tornFrameAtTheEndOfASegmentIsTruncatedBeforeNewRecords() throws IOException {
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            persistent.system().addClinic(CLINIC);
+        }
+        appendTornFrame(newestSegment());
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            assertEquals(1, persistent.system().listClinics().size());
+            persistent.system().addClinic(new ClinicSite("SED-2", "Sede Sur", "Bogotá"));
+            persistent.sync();
+        }
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            assertEquals(2, persistent.system().listClinics().size());
+        }
+    }
+
+    @Test
+    void tornSegmentReusedByTheNextSequenceKeepsLaterRecords() throws IOException {
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            persistent.system().addClinic(CLINIC);
+        }
+        Path torn = directory.resolve(String.format("journal-%020d.log", 2));
+        Files.createFile(torn);
+        appendTornFrame(torn);
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            persistent.system().addClinic(new ClinicSite("SED-2", "Sede Sur", "Bogotá"));
+            persistent.sync();
+        }
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            assertEquals(2, persistent.system().listClinics().size());
+        }
+    }
+
+    @Test
+    void bookingIsDurableWhenAddAppointmentReturns() throws IOException {
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            HealthSystem system = persistent.system();
+            register(system, DOCTOR);
+            system.addAppointment(appointment("CC-1", DOCTOR, monday(8, 20)));
+
+            AtomicInteger appointments = new AtomicInteger();
+            Journal.replay(directory, 0, (type, body) -> {
+                if (type == RecordCodec.APPOINTMENT) {
+                    appointments.incrementAndGet();
+                }
+            });
+            assertEquals(1, appointments.get());
+        }
+    }
+
+    private Path newestSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(path -> path.getFileName().toString().startsWith("journal-")).sorted().toList();
+            return segments.get(segments.size() - 1);
+        }
+    }
+
+    private static void appendTornFrame(Path segment) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(16);
+        frame.putInt(64).putInt(0x1234_5678).putLong(99).flip();
+        Files.write(segment, Arrays.copyOf(frame.array(), 14), StandardOpenOption.APPEND);
+    }
+}
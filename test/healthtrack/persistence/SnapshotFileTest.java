@@ -0,0 +1,65 @@
+package healthtrack.persistence;
+
+import healthtrack.model.Appointment;
+import healthtrack.service.HealthSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.register;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void attendedHistorySurvivesSnapshotAndRestart() throws IOException {
+        LocalDateTime attended = monday(8, 0);
+        LocalDateTime pending = attended.plusDays(1);
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            HealthSystem system = persistent.system();
+            register(system, DOCTOR);
+            system.addAppointment(appointment("CC-1", DOCTOR, attended));
+            system.addAppointment(appointment("CC-1", DOCTOR, pending));
+            system.attendAppointment("CC-1", attended);
+            persistent.snapshot();
+        }
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            HealthSystem system = persistent.system();
+            assertEquals(List.of(attended), schedules(system.attendedAppointmentsOf("cc-1")));
+            assertEquals(List.of(pending), schedules(system.pendingAppointmentsOf("CC-1")));
+        }
+    }
+
+    @Test
+    void conflictingRowsFromAFuzzySnapshotAreSkippedOnLoad() throws IOException {
+        HealthSystem source = systemWith(DOCTOR);
+        LocalDateTime slot = monday(8, 0);
+        Appointment kept = appointment("CC-1", DOCTOR, slot);
+        List<Appointment> pending = List.of(kept, appointment("CC-2", DOCTOR, slot), appointment("CC-3", DOCTOR, slot.plusMinutes(20)));
+        SnapshotFile.write(directory, 1, source.catalog(), pending.iterator(), List.of());
+
+        try (PersistentHealthSystem persistent = PersistentHealthSystem.open(directory, null)) {
+            HealthSystem system = persistent.system();
+            assertEquals(List.of(slot, slot.plusMinutes(20)), schedules(system.agenda(DOCTOR.id(), slot, slot.plusHours(1))));
+            assertEquals(List.of(kept), system.pendingAppointmentsOf("CC-1"));
+            assertTrue(system.pendingAppointmentsOf("CC-2").isEmpty());
+        }
+    }
+
+    private static List<LocalDateTime> schedules(List<Appointment> appointments) {
+        return appointments.stream().map(Appointment::schedule).toList();
+    }
+}
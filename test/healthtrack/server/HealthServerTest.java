@@ -0,0 +1,67 @@
+package healthtrack.server;
+
+import healthtrack.service.HealthSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HealthServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private HealthServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        HealthSystem system = systemWith(DOCTOR);
+        server = new HealthServer(system, new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    @Test
+    void availableDatesRejectsHorizonsOutsideTheAllowedRange() throws Exception {
+        assertEquals(400, get("/doctors/MED-1/dates?days=2147483647").statusCode());
+        assertEquals(400, get("/doctors/MED-1/dates?days=-1").statusCode());
+        assertEquals(400, get("/doctors/MED-1/dates?days=muchos").statusCode());
+        assertEquals(200, get("/doctors/MED-1/dates?days=365").statusCode());
+    }
+
+    @Test
+    void previewLimitIsClamped() throws Exception {
+        assertEquals(200, get("/appointments?limit=2147483647").statusCode());
+        assertEquals(200, get("/appointments?limit=-5").statusCode());
+    }
+
+    @Test
+    void oversizedBodiesAreRejected() throws Exception {
+        String body = "{\"code\":\"SED-2\",\"name\":\"" + "x".repeat(100_000) + "\",\"city\":\"Cali\"}";
+        HttpRequest request = HttpRequest.newBuilder(uri("/clinics"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        assertEquals(413, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+}
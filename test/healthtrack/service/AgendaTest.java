@@ -0,0 +1,143 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.doctor;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AgendaTest {
+
+    private static final Doctor FIRST = doctor("MED-1", "Pediatría");
+    private static final Doctor SECOND = doctor("MED-2", "Cardiología");
+    private static final Doctor ALTERNATE_DAYS = new Doctor("MED-3", "Médico MED-3", "Pediatría", CLINIC.code(),
+            new DoctorAvailability(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                    LocalTime.of(9, 0), LocalTime.of(11, 0), 15));
+
+    private final HealthSystem system = systemWith(FIRST, SECOND, ALTERNATE_DAYS);
+
+    @Test
+    void doctorAgendaIsOrderedAndHalfOpen() {
+        Appointment late = appointment("CC-1", FIRST, monday(11, 0));
+        Appointment early = appointment("CC-2", FIRST, monday(8, 0));
+        Appointment middle = appointment("CC-3", FIRST, monday(9, 20));
+        Appointment tomorrow = appointment("CC-4", FIRST, monday(8, 0).plusDays(1));
+        Appointment otherDoctor = appointment("CC-5", SECOND, monday(9, 20));
+        for (Appointment appointment : List.of(late, early, middle, tomorrow, otherDoctor)) {
+            system.addAppointment(appointment);
+        }
+
+        assertEquals(List.of(early, middle, late), system.agenda("med-1", monday(0, 0), monday(0, 0).plusDays(1)));
+        assertEquals(List.of(early, middle), system.agenda("MED-1", monday(8, 0), monday(11, 0)));
+        assertEquals(List.of(middle, late, tomorrow), system.agenda("MED-1", monday(8, 1), monday(8, 0).plusDays(2)));
+        assertEquals(List.of(), system.agenda("MED-1", monday(11, 0), monday(11, 0)));
+        assertEquals(List.of(), system.agenda("MED-1", monday(12, 0), monday(8, 0)));
+        assertEquals(List.of(), system.agenda("MED-9", monday(0, 0), monday(23, 0)));
+    }
+
+    @Test
+    void clinicAgendaOrdersByScheduleThenDoctor() {
+        Appointment second = appointment("CC-1", SECOND, monday(9, 0));
+        Appointment first = appointment("CC-2", FIRST, monday(9, 0));
+        Appointment alternate = appointment("CC-3", ALTERNATE_DAYS, monday(9, 15));
+        Appointment early = appointment("CC-4", SECOND, monday(8, 0));
+        Appointment tuesday = appointment("CC-5", FIRST, monday(8, 0).plusDays(1));
+        for (Appointment appointment : List.of(second, first, alternate, early, tuesday)) {
+            system.addAppointment(appointment);
+        }
+
+        assertEquals(List.of(early, first, second, alternate), system.clinicAgenda("sed-1", MONDAY));
+        assertEquals(List.of(tuesday), system.clinicAgenda("SED-1", MONDAY.plusDays(1)));
+        assertEquals(List.of(), system.clinicAgenda("SED-9", MONDAY));
+    }
+
+    @Test
+    void releasedAppointmentsLeaveTheAgendas() {
+        Appointment attended = appointment("CC-1", FIRST, monday(8, 0));
+        Appointment cancelled = appointment("CC-2", FIRST, monday(8, 20));
+        Appointment moved = appointment("CC-3", FIRST, monday(8, 40));
+        for (Appointment appointment : List.of(attended, cancelled, moved)) {
+            system.addAppointment(appointment);
+        }
+
+        system.attendAppointment("CC-1", monday(8, 0));
+        system.cancelAppointment("CC-2", monday(8, 20));
+        Appointment rescheduled = system.rescheduleAppointment("CC-3", monday(8, 40), monday(10, 0));
+
+        assertEquals(List.of(rescheduled), system.agenda("MED-1", monday(0, 0), monday(23, 0)));
+        assertEquals(List.of(rescheduled), system.clinicAgenda("SED-1", MONDAY));
+        system.pollAppointment();
+        assertEquals(List.of(), system.clinicAgenda("SED-1", MONDAY));
+    }
+
+    @Test
+    void freeSlotsMatchTheDailyAvailableTimeSlots() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (Doctor doctor : List.of(FIRST, ALTERNATE_DAYS)) {
+            for (int i = 0; i < 40; i++) {
+                LocalDate date = MONDAY.plusDays(random.nextInt(7));
+                List<LocalTime> free = system.getAvailableTimeSlots(doctor, date);
+                if (!free.isEmpty()) {
+                    system.addAppointment(appointment("CC-" + doctor.id() + "-" + i, doctor,
+                            date.atTime(free.get(random.nextInt(free.size())))));
+                }
+            }
+            for (LocalDateTime from : List.of(monday(0, 0), monday(9, 10), monday(11, 0).plusDays(1), monday(23, 0))) {
+                for (int days : new int[]{0, 1, 6}) {
+                    assertEquals(expectedFreeSlots(doctor, from, days), drain(system.freeSlots(doctor, from, days)),
+                            doctor.id() + " from " + from + " days=" + days);
+                }
+            }
+        }
+    }
+
+    @Test
+    void exhaustedFreeSlotIteratorThrows() {
+        for (LocalTime time : system.getAvailableTimeSlots(FIRST, MONDAY)) {
+            system.addAppointment(appointment("CC-" + time, FIRST, MONDAY.atTime(time)));
+        }
+
+        Iterator<LocalDateTime> slots = system.freeSlots(FIRST, monday(0, 0), 0);
+
+        assertFalse(slots.hasNext());
+        assertThrows(NoSuchElementException.class, slots::next);
+    }
+
+    private List<LocalDateTime> expectedFreeSlots(Doctor doctor, LocalDateTime from, int days) {
+        List<LocalDateTime> result = new ArrayList<>();
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(from.toLocalDate().plusDays(days)); date = date.plusDays(1)) {
+            for (LocalTime time : system.getAvailableTimeSlots(doctor, date)) {
+                if (!date.atTime(time).isBefore(from)) {
+                    result.add(date.atTime(time));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<LocalDateTime> drain(Iterator<LocalDateTime> slots) {
+        List<LocalDateTime> result = new ArrayList<>();
+        slots.forEachRemaining(result::add);
+        return result;
+    }
+}
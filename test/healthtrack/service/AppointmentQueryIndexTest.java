@@ -0,0 +1,106 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.monday;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AppointmentQueryIndexTest {
+
+    private static final Doctor DOCTOR = new Doctor("MED-1", "Laura Gómez", "Pediatría", CLINIC.code(),
+            everyDay(LocalTime.of(0, 0), LocalTime.of(23, 40)));
+
+    @Test
+    void queriesSeeEveryUpdateMadeBeforeThem() {
+        AppointmentQueryIndex index = new AppointmentQueryIndex();
+        List<Appointment> booked = appointments(1000);
+        for (Appointment appointment : booked) {
+            index.add(appointment, "pediatria");
+        }
+        List<Appointment> remaining = new ArrayList<>();
+        for (int i = 0; i < booked.size(); i++) {
+            if (i % 2 == 0) {
+                index.remove(booked.get(i), "pediatria");
+            } else {
+                remaining.add(booked.get(i));
+            }
+        }
+
+        assertEquals(500, index.count(AppointmentQuery.pending().withSpecialty("PEDIATRÍA")));
+        assertEquals(booked.get(1), index.query(AppointmentQuery.pending().limit(1), remaining).get(0));
+    }
+
+    @Test
+    void updatesDoNotWaitForARunningQuery() throws Exception {
+        AppointmentQueryIndex index = new AppointmentQueryIndex();
+        List<Appointment> booked = appointments(1000);
+        for (Appointment appointment : booked) {
+            index.add(appointment, "pediatria");
+        }
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Iterable<Appointment> blockingOrder = () -> new Iterator<>() {
+            private final Iterator<Appointment> delegate = booked.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Appointment next() {
+                scanning.countDown();
+                await(release);
+                return delegate.next();
+            }
+        };
+        CompletableFuture<List<Appointment>> query = CompletableFuture.supplyAsync(
+                () -> index.query(AppointmentQuery.pending().limit(1), blockingOrder));
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> updates = CompletableFuture.runAsync(() -> {
+            for (Appointment appointment : appointments(2000).subList(1000, 2000)) {
+                index.add(appointment, "pediatria");
+            }
+            index.remove(booked.get(0), "pediatria");
+        });
+        updates.get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertEquals(List.of(booked.get(0)), query.get(5, TimeUnit.SECONDS));
+        assertEquals(1999, index.count(AppointmentQuery.pending()));
+    }
+
+    private static List<Appointment> appointments(int count) {
+        List<Appointment> result = new ArrayList<>(count);
+        LocalDateTime start = monday(8, 0);
+        for (int i = 0; i < count; i++) {
+            result.add(appointment("CC-" + i, DOCTOR, start.plusMinutes(20L * i)));
+        }
+        return result;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
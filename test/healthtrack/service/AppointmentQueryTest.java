@@ -0,0 +1,188 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.AppointmentType;
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.PatientCategory;
+import healthtrack.model.PriorityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.patient;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AppointmentQueryTest {
+
+    private static final List<ClinicSite> CLINICS = List.of(
+            new ClinicSite("SED-1", "Sede Norte", "Bogotá"),
+            new ClinicSite("SED-2", "Sede Sur", "Bogotá"),
+            new ClinicSite("SED-3", "Sede Centro", "Medellín"));
+    private static final List<String> SPECIALTIES = List.of("Pediatría", "Cardiología", "Medicina General");
+    private static final int DAYS = 14;
+
+    private final HealthSystem system = new HealthSystem();
+    private final List<Doctor> doctors = new ArrayList<>();
+    private final TreeSet<Appointment> pending = new TreeSet<>();
+
+    @BeforeEach
+    void bookAcrossClinicsAndDays() {
+        for (ClinicSite clinic : CLINICS) {
+            system.addClinic(clinic);
+        }
+        for (int i = 0; i < 9; i++) {
+            Doctor doctor = new Doctor("MED-" + i, "Médico " + i, SPECIALTIES.get(i % SPECIALTIES.size()),
+                    CLINICS.get(i / 3).code(), everyDay(LocalTime.of(8, 0), LocalTime.of(18, 0)));
+            system.addDoctor(doctor);
+            doctors.add(doctor);
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        PatientCategory[] categories = PatientCategory.values();
+        AppointmentType[] types = AppointmentType.values();
+        Set<String> taken = new HashSet<>();
+        for (int i = 0; i < 1500; i++) {
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            LocalDateTime schedule = MONDAY.plusDays(random.nextInt(DAYS)).atTime(8, 0).plusMinutes(20L * random.nextInt(30));
+            if (!taken.add(doctor.id() + schedule)) {
+                continue;
+            }
+            Appointment appointment = new Appointment(patient("CC-" + i, categories[random.nextInt(categories.length)]),
+                    doctor, clinicOf(doctor), types[random.nextInt(types.length)], schedule);
+            if (system.addAppointment(appointment)) {
+                pending.add(appointment);
+            }
+        }
+        for (Appointment appointment : new ArrayList<>(pending)) {
+            if (random.nextInt(10) == 0) {
+                system.cancelAppointment(appointment.patient().document(), appointment.schedule());
+                pending.remove(appointment);
+            }
+        }
+        for (int i = 0; i < 40; i++) {
+            pending.remove(system.pollAppointment());
+        }
+    }
+
+    @Test
+    void randomMixedFiltersMatchABruteForceScan() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 500; i++) {
+            AppointmentQuery query = AppointmentQuery.pending();
+            if (random.nextInt(3) == 0) {
+                query = query.inClinic(respell(CLINICS.get(random.nextInt(CLINICS.size())).code(), random));
+            }
+            if (random.nextInt(4) == 0) {
+                query = query.withDoctor(respell(doctors.get(random.nextInt(doctors.size())).id(), random));
+            }
+            if (random.nextInt(3) == 0) {
+                query = query.withSpecialty(respell(SPECIALTIES.get(random.nextInt(SPECIALTIES.size())), random));
+            }
+            if (random.nextInt(3) == 0) {
+                query = query.ofType(AppointmentType.values()[random.nextInt(AppointmentType.values().length)]);
+            }
+            if (random.nextInt(3) == 0) {
+                query = query.withPriority(PriorityLevel.values()[random.nextInt(PriorityLevel.values().length)]);
+            }
+            if (random.nextBoolean()) {
+                LocalDateTime from = random.nextInt(4) == 0 ? null
+                        : MONDAY.plusDays(random.nextInt(DAYS)).atTime(8, 0).plusMinutes(20L * random.nextInt(30));
+                LocalDateTime to = random.nextInt(4) == 0 ? null
+                        : (from == null ? MONDAY.atTime(8, 0) : from).plusMinutes(20L * random.nextInt(3 * 30 * 3));
+                query = query.between(from, to);
+            }
+            if (random.nextBoolean()) {
+                query = query.limit(new int[]{0, 1, 5, 50}[random.nextInt(4)]);
+            }
+            assertMatchesBruteForce(query);
+        }
+    }
+
+    @Test
+    void unfilteredQueriesWithASmallLimitFollowTheQueueOrder() {
+        assertMatchesBruteForce(AppointmentQuery.pending().limit(1));
+        assertMatchesBruteForce(AppointmentQuery.pending().limit(10));
+        assertMatchesBruteForce(AppointmentQuery.pending().inClinic("sed-2").limit(3));
+        assertMatchesBruteForce(AppointmentQuery.pending().withSpecialty("MEDICINA  general").limit(5));
+        assertMatchesBruteForce(AppointmentQuery.pending().limit(pending.size() + 1));
+    }
+
+    @Test
+    void narrowDateRangesDriveTheDayIndex() {
+        for (int day = 0; day < DAYS; day++) {
+            LocalDateTime from = MONDAY.plusDays(day).atTime(9, 40);
+            assertMatchesBruteForce(AppointmentQuery.pending().between(from, from.plusMinutes(40)));
+            assertMatchesBruteForce(AppointmentQuery.pending().inClinic("SED-1").between(from, from.plusHours(3)));
+            assertMatchesBruteForce(AppointmentQuery.pending().withPriority(PriorityLevel.URGENCIA)
+                    .between(from, from.plusDays(1)).limit(2));
+            assertMatchesBruteForce(AppointmentQuery.pending().between(from, from));
+        }
+        assertMatchesBruteForce(AppointmentQuery.pending().between(MONDAY.minusDays(30).atStartOfDay(),
+                MONDAY.minusDays(1).atStartOfDay()));
+        assertMatchesBruteForce(AppointmentQuery.pending().ofType(AppointmentType.LABORATORIO)
+                .between(null, MONDAY.plusDays(2).atTime(12, 0)));
+    }
+
+    @Test
+    void unknownKeysMatchNothing() {
+        assertMatchesBruteForce(AppointmentQuery.pending().inClinic("SED-9"));
+        assertMatchesBruteForce(AppointmentQuery.pending().withDoctor("MED-99").limit(1));
+        assertMatchesBruteForce(AppointmentQuery.pending().withSpecialty("Dermatología"));
+    }
+
+    private void assertMatchesBruteForce(AppointmentQuery query) {
+        List<Appointment> expected = new ArrayList<>();
+        for (Appointment appointment : pending) {
+            if (matches(appointment, query)) {
+                expected.add(appointment);
+            }
+        }
+        String description = describe(query);
+        assertEquals(expected.size(), system.count(query), description);
+        assertEquals(expected.subList(0, Math.min(query.limit(), expected.size())), system.query(query), description);
+    }
+
+    private static boolean matches(Appointment appointment, AppointmentQuery query) {
+        return (query.clinicCode() == null || Keys.of(query.clinicCode()).equals(Keys.of(appointment.clinic().code())))
+                && (query.doctorId() == null || Keys.of(query.doctorId()).equals(Keys.of(appointment.doctor().id())))
+                && (query.specialty() == null
+                || Keys.folded(query.specialty()).equals(Keys.folded(appointment.doctor().specialty())))
+                && (query.type() == null || query.type() == appointment.type())
+                && (query.priority() == null || query.priority() == appointment.priority())
+                && (query.from() == null || !appointment.schedule().isBefore(query.from()))
+                && (query.to() == null || appointment.schedule().isBefore(query.to()));
+    }
+
+    private static String respell(String value, SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> value.toUpperCase();
+            case 1 -> " " + value.toLowerCase() + " ";
+            default -> value;
+        };
+    }
+
+    private static ClinicSite clinicOf(Doctor doctor) {
+        for (ClinicSite clinic : CLINICS) {
+            if (clinic.code().equals(doctor.clinicCode())) {
+                return clinic;
+            }
+        }
+        throw new IllegalStateException(doctor.clinicCode());
+    }
+
+    private static String describe(AppointmentQuery query) {
+        return "clinic=" + query.clinicCode() + " doctor=" + query.doctorId() + " specialty=" + query.specialty()
+                + " type=" + query.type() + " priority=" + query.priority() + " from=" + query.from()
+                + " to=" + query.to() + " limit=" + query.limit();
+    }
+}
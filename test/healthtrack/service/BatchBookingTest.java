@@ -0,0 +1,123 @@
+package healthtrack.service;
+
+import healthtrack.metrics.Instrumentation;
+import healthtrack.metrics.Operation;
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.doctor;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchBookingTest {
+
+    private static final Doctor SECOND = doctor("MED-2", "Pediatría");
+    private static final Doctor AFTERNOONS = new Doctor("MED-3", "Juan Díaz", "Cardiología", CLINIC.code(),
+            everyDay(LocalTime.of(14, 0), LocalTime.of(18, 0)));
+
+    private HealthSystem system;
+    private CountingInstrumentation metrics;
+
+    @BeforeEach
+    void setUp() {
+        system = systemWith(DOCTOR, SECOND, AFTERNOONS);
+        metrics = new CountingInstrumentation();
+        system.setInstrumentation(metrics);
+    }
+
+    @Test
+    void resultsFollowTheInputOrder() {
+        List<BookingResult> results = system.addAppointments(List.of(
+                appointment("CC-1", DOCTOR, monday(8, 0)),
+                appointment("CC-2", DOCTOR, monday(8, 0)),
+                appointment("CC-3", SECOND, monday(8, 0)),
+                appointment("CC-4", DOCTOR, monday(13, 0))));
+
+        assertEquals(Arrays.asList(null, BookingRejection.DOCTOR_UNAVAILABLE, null, BookingRejection.DOCTOR_UNAVAILABLE),
+                rejections(results));
+        assertEquals("CC-2", results.get(1).appointment().patient().document());
+        assertEquals(2, system.registeredAppointments().size());
+    }
+
+    @Test
+    void duplicatesInsideTheBatchKeepTheFirstAcceptedItem() {
+        List<BookingResult> results = system.addAppointments(List.of(
+                appointment("CC-1", DOCTOR, monday(8, 0)),
+                appointment("cc-1", SECOND, monday(8, 0))));
+
+        assertEquals(Arrays.asList(null, BookingRejection.DUPLICATE_PATIENT_SLOT), rejections(results));
+    }
+
+    @Test
+    void itemRejectedAsUnavailableDoesNotBlockTheSamePatientAndTime() {
+        List<BookingResult> results = system.addAppointments(List.of(
+                appointment("CC-1", DOCTOR, monday(14, 0)),
+                appointment("CC-1", AFTERNOONS, monday(14, 0))));
+
+        assertEquals(Arrays.asList(BookingRejection.DOCTOR_UNAVAILABLE, null), rejections(results));
+    }
+
+    @Test
+    void itemRejectedForAnOccupiedSlotDoesNotBlockTheSamePatientAndTime() {
+        system.addAppointment(appointment("CC-9", DOCTOR, monday(8, 0)));
+
+        List<BookingResult> results = system.addAppointments(List.of(
+                appointment("CC-1", DOCTOR, monday(8, 0)),
+                appointment("CC-1", SECOND, monday(8, 0))));
+
+        assertEquals(Arrays.asList(BookingRejection.DOCTOR_UNAVAILABLE, null), rejections(results));
+        assertEquals(SECOND, system.pendingAppointmentsOf("CC-1").get(0).doctor());
+    }
+
+    @Test
+    void batchOutcomesAreRecordedLikeSingleBookings() {
+        system.addAppointments(List.of(
+                appointment("CC-1", DOCTOR, monday(8, 0)),
+                appointment("CC-2", DOCTOR, monday(8, 0)),
+                appointment("CC-1", SECOND, monday(8, 0)),
+                appointment("CC-3", DOCTOR, monday(13, 0)),
+                appointment("CC-4", SECOND, monday(8, 20))));
+
+        assertEquals(2, metrics.accepted);
+        assertEquals(List.of(BookingRejection.DOCTOR_UNAVAILABLE, BookingRejection.DOCTOR_UNAVAILABLE,
+                BookingRejection.DUPLICATE_PATIENT_SLOT), metrics.rejected);
+    }
+
+    private static List<BookingRejection> rejections(List<BookingResult> results) {
+        List<BookingRejection> rejections = new ArrayList<>();
+        for (BookingResult result : results) {
+            rejections.add(result.rejection());
+        }
+        return rejections;
+    }
+
+    private static final class CountingInstrumentation implements Instrumentation {
+
+        private int accepted;
+        private final List<BookingRejection> rejected = new ArrayList<>();
+
+        @Override
+        public void record(Operation operation, long start) {
+            if (operation == Operation.ADD_APPOINTMENT) {
+                accepted++;
+            }
+        }
+
+        @Override
+        public void bookingRejected(BookingRejection rejection, long start) {
+            rejected.add(rejection);
+        }
+    }
+}
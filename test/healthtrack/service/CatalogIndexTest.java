@@ -0,0 +1,89 @@
+package healthtrack.service;
+
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.MORNINGS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogIndexTest {
+
+    private static final ClinicSite SOUTH = new ClinicSite("SED-2", "Sede Sur", "bogota");
+    private static final ClinicSite CENTER = new ClinicSite("SED-3", "Sede Centro", "Medellín");
+    private static final Doctor PEDIATRICIAN = new Doctor("MED-1", "Laura Gómez", "Pediatría", CLINIC.code(), MORNINGS);
+    private static final Doctor CARDIOLOGIST = new Doctor("MED-2", "Andrés Ruiz", "Cardiología", CLINIC.code(), MORNINGS);
+    private static final Doctor SOUTH_PEDIATRICIAN = new Doctor("MED-3", "Sofía Díaz", "PEDIATRIA", "sed-2", MORNINGS);
+    private static final Doctor CENTER_PEDIATRICIAN = new Doctor("MED-4", "Jorge Páez", "pediatría ", CENTER.code(), MORNINGS);
+
+    private final HealthSystem system = new HealthSystem();
+
+    CatalogIndexTest() {
+        system.addClinic(CLINIC);
+        system.addClinic(SOUTH);
+        system.addClinic(CENTER);
+        system.addDoctor(PEDIATRICIAN);
+        system.addDoctor(CARDIOLOGIST);
+        system.addDoctor(SOUTH_PEDIATRICIAN);
+        system.addDoctor(CENTER_PEDIATRICIAN);
+    }
+
+    @Test
+    void doctorsAreIndexedByClinicIgnoringCase() {
+        assertEquals(List.of(PEDIATRICIAN, CARDIOLOGIST), system.doctorsByClinic("sed-1"));
+        assertEquals(List.of(SOUTH_PEDIATRICIAN), system.doctorsByClinic(" SED-2 "));
+        assertEquals(List.of(), system.doctorsByClinic("SED-9"));
+        assertEquals(PEDIATRICIAN, system.findDoctor("med-1").orElseThrow());
+        assertEquals(SOUTH, system.findClinic("Sed-2").orElseThrow());
+    }
+
+    @Test
+    void clinicsAreIndexedByCityIgnoringAccentsAndCase() {
+        assertEquals(List.of(CLINIC, SOUTH), system.clinicsByCity("BOGOTÁ"));
+        assertEquals(List.of(CENTER), system.clinicsByCity("medellin"));
+        assertEquals(List.of(), system.clinicsByCity("Cali"));
+    }
+
+    @Test
+    void doctorsAreIndexedBySpecialtyAndBySpecialtyWithinACity() {
+        assertEquals(List.of(PEDIATRICIAN, SOUTH_PEDIATRICIAN, CENTER_PEDIATRICIAN), system.doctorsBySpecialty("Pediatria"));
+        assertEquals(List.of(CARDIOLOGIST), system.doctorsBySpecialty("CARDIOLOGÍA"));
+        assertEquals(List.of(PEDIATRICIAN, SOUTH_PEDIATRICIAN), system.doctorsBySpecialty("pediatría", "Bogotá"));
+        assertEquals(List.of(CENTER_PEDIATRICIAN), system.doctorsBySpecialty("PEDIATRÍA", "MEDELLIN"));
+        assertEquals(List.of(), system.doctorsBySpecialty("Cardiología", "Medellín"));
+        assertEquals(List.of(), system.doctorsBySpecialty("Pediatría", "Cali"));
+    }
+
+    @Test
+    void duplicatesAreRejectedWithoutTouchingTheIndexes() {
+        assertFalse(system.addClinic(new ClinicSite("sed-1", "Otra sede", "Cali")));
+        assertThrows(IllegalArgumentException.class,
+                () -> system.addDoctor(new Doctor("med-1", "Otro médico", "Dermatología", CENTER.code(), MORNINGS)));
+        assertThrows(IllegalArgumentException.class,
+                () -> system.addDoctor(new Doctor("MED-9", "Sin sede", "Pediatría", "SED-9", MORNINGS)));
+
+        assertEquals(List.of(), system.clinicsByCity("Cali"));
+        assertEquals(List.of(), system.doctorsBySpecialty("Dermatología"));
+        assertEquals(List.of(CENTER_PEDIATRICIAN), system.doctorsByClinic("SED-3"));
+        assertEquals(3, system.doctorsBySpecialty("Pediatría").size());
+        assertEquals(4, system.listDoctors().size());
+    }
+
+    @Test
+    void listsReturnedBeforeARegistrationAreNotChangedByIt() {
+        List<Doctor> before = system.doctorsBySpecialty("Pediatría", "Bogotá");
+
+        Doctor added = new Doctor("MED-5", "Marta León", "Pediatría", SOUTH.code(), MORNINGS);
+        assertTrue(system.addDoctor(added));
+
+        assertEquals(List.of(PEDIATRICIAN, SOUTH_PEDIATRICIAN), before);
+        assertEquals(List.of(PEDIATRICIAN, SOUTH_PEDIATRICIAN, added), system.doctorsBySpecialty("Pediatría", "Bogotá"));
+        assertEquals(List.of(SOUTH_PEDIATRICIAN, added), system.doctorsByClinic("SED-2"));
+    }
+}
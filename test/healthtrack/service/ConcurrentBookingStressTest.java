@@ -0,0 +1,144 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import healthtrack.model.PatientCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.patient;
+import static healthtrack.Fixtures.register;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentBookingStressTest {
+
+    private static final int DOCTORS = 6;
+    private static final int PATIENTS = 150;
+    private static final int DAYS = 3;
+    private static final int OPERATIONS_PER_THREAD = 4_000;
+
+    @Test
+    void concurrentDesksNeverDoubleBookDoctorsOrPatients() throws Exception {
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            HealthSystem system = new HealthSystem();
+            List<Doctor> doctors = loadDoctors(system);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger released = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> desks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Random random = new Random(31L * threads + t);
+                desks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        runOperation(system, doctors, random, accepted, released);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> desk : desks) {
+                desk.get();
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(accepted.get() > 0, "Ninguna reserva fue aceptada con " + threads + " hilos.");
+            assertInvariants(system, accepted.get() - released.get());
+        }
+    }
+
+    private static void runOperation(HealthSystem system, List<Doctor> doctors, Random random,
+                                     AtomicInteger accepted, AtomicInteger released) {
+        int action = random.nextInt(10);
+        if (action < 6) {
+            try {
+                system.addAppointment(randomAppointment(doctors, random));
+                accepted.incrementAndGet();
+            } catch (IllegalArgumentException ignored) {
+            }
+        } else if (action < 7) {
+            List<Appointment> batch = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                batch.add(randomAppointment(doctors, random));
+            }
+            for (BookingResult result : system.addAppointments(batch)) {
+                if (result.accepted()) {
+                    accepted.incrementAndGet();
+                }
+            }
+        } else if (action < 8) {
+            Appointment target = randomAppointment(doctors, random);
+            if (system.cancelAppointment(target.patient().document(), target.schedule()).isPresent()) {
+                released.incrementAndGet();
+            }
+        } else if (action < 9) {
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            if (system.pollDoctorAppointment(doctor.id()) != null) {
+                released.incrementAndGet();
+            }
+        } else if (system.pollAppointment() != null) {
+            released.incrementAndGet();
+        }
+    }
+
+    private static void assertInvariants(HealthSystem system, int expectedPending) {
+        List<Appointment> registered = new ArrayList<>(system.registeredAppointments());
+        Set<String> doctorSlots = new HashSet<>();
+        Set<String> patientSlots = new HashSet<>();
+        for (Appointment appointment : registered) {
+            assertTrue(doctorSlots.add(Keys.of(appointment.doctor().id()) + '@' + appointment.schedule()),
+                    "Médico con dos citas en el mismo horario: " + appointment);
+            assertTrue(patientSlots.add(Keys.of(appointment.patient().document()) + '@' + appointment.schedule()),
+                    "Paciente con dos citas en el mismo horario: " + appointment);
+            assertFalse(system.getAvailableTimeSlots(appointment.doctor(), appointment.schedule().toLocalDate())
+                    .contains(appointment.schedule().toLocalTime()), "Horario ocupado reportado como libre: " + appointment);
+        }
+        assertEquals(expectedPending, registered.size());
+        int queued = 0;
+        for (int depth : system.queueDepthByPriority().values()) {
+            queued += depth;
+        }
+        assertEquals(expectedPending, queued);
+    }
+
+    private static List<Doctor> loadDoctors(HealthSystem system) {
+        DoctorAvailability shift = everyDay(LocalTime.of(8, 0), LocalTime.of(10, 0));
+        Doctor[] doctors = new Doctor[DOCTORS];
+        for (int i = 0; i < DOCTORS; i++) {
+            doctors[i] = new Doctor("MED-" + i, "Médico " + i, "Medicina General", CLINIC.code(), shift);
+        }
+        register(system, doctors);
+        return system.listDoctors();
+    }
+
+    private static Appointment randomAppointment(List<Doctor> doctors, Random random) {
+        Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+        DoctorAvailability availability = doctor.availability();
+        LocalDateTime schedule = LocalDateTime.of(MONDAY.plusDays(random.nextInt(DAYS)),
+                availability.slotAt(random.nextInt(availability.slotCount())));
+        PatientCategory category = PatientCategory.values()[random.nextInt(PatientCategory.values().length)];
+        return appointment(patient("PT-" + random.nextInt(PATIENTS), category), doctor, schedule);
+    }
+}
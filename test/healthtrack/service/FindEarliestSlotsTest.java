@@ -0,0 +1,135 @@
+package healthtrack.service;
+
+import healthtrack.model.ClinicSite;
+import healthtrack.model.Doctor;
+import healthtrack.model.DoctorAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.monday;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FindEarliestSlotsTest {
+
+    private static final ClinicSite SOUTH = new ClinicSite("SED-2", "Sede Sur", "Bogotá");
+    private static final ClinicSite CENTER = new ClinicSite("SED-3", "Sede Centro", "Medellín");
+    private static final DoctorAvailability WEEKDAYS = new DoctorAvailability(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), LocalTime.of(14, 0), LocalTime.of(17, 0), 30);
+
+    private final HealthSystem system = new HealthSystem();
+    private final List<Doctor> doctors = List.of(
+            new Doctor("MED-1", "Laura Gómez", "Pediatría", CLINIC.code(), everyDay(LocalTime.of(8, 0), LocalTime.of(10, 0))),
+            new Doctor("MED-2", "Andrés Ruiz", "Pediatría", SOUTH.code(), WEEKDAYS),
+            new Doctor("MED-3", "Sofía Díaz", "PEDIATRIA", CENTER.code(), everyDay(LocalTime.of(7, 0), LocalTime.of(9, 0))),
+            new Doctor("MED-4", "Jorge Páez", "Cardiología", CLINIC.code(), everyDay(LocalTime.of(8, 0), LocalTime.of(12, 0))));
+
+    FindEarliestSlotsTest() {
+        system.addClinic(CLINIC);
+        system.addClinic(SOUTH);
+        system.addClinic(CENTER);
+        doctors.forEach(system::addDoctor);
+    }
+
+    @Test
+    void mergesTheFreeSlotsOfEveryMatchingDoctorInTimeOrder() {
+        bookRandomly(new SplittableRandom(3), 120);
+        for (LocalDateTime from : List.of(monday(0, 0), monday(8, 10), monday(16, 30), MONDAY.plusDays(5).atTime(9, 0))) {
+            for (int k : new int[]{0, 1, 7, 40, 200}) {
+                assertMatchesBruteForce("pediatria", null, from, k);
+                assertMatchesBruteForce("Pediatría", "bogota", from, k);
+                assertMatchesBruteForce("PEDIATRÍA", "sed-3", from, k);
+                assertMatchesBruteForce("Cardiología", "SED-1", from, k);
+            }
+        }
+    }
+
+    @Test
+    void skipsBookedSlotsAndStartsAtTheRequestedTime() {
+        Doctor doctor = doctors.get(0);
+        system.addAppointment(appointment("CC-1", doctor, monday(8, 20)));
+
+        List<AvailableSlot> slots = system.findEarliestSlots("Pediatría", "SED-1", monday(8, 10), 3);
+
+        assertEquals(List.of(monday(8, 40), monday(9, 0), monday(9, 20)), schedules(slots));
+        assertTrue(slots.stream().allMatch(slot -> slot.doctor().equals(doctor)));
+    }
+
+    @Test
+    void unknownSpecialtiesOrLocationsFindNothing() {
+        assertEquals(List.of(), system.findEarliestSlots("Dermatología", null, monday(8, 0), 5));
+        assertEquals(List.of(), system.findEarliestSlots("Pediatría", "Cali", monday(8, 0), 5));
+        assertEquals(List.of(), system.findEarliestSlots("Cardiología", "SED-2", monday(8, 0), 5));
+    }
+
+    private void bookRandomly(SplittableRandom random, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            LocalDate date = MONDAY.plusDays(random.nextInt(10));
+            List<LocalTime> free = system.getAvailableTimeSlots(doctor, date);
+            if (!free.isEmpty()) {
+                system.addAppointment(appointment("CC-" + i, doctor, date.atTime(free.get(random.nextInt(free.size())))));
+            }
+        }
+    }
+
+    private void assertMatchesBruteForce(String specialty, String location, LocalDateTime from, int k) {
+        List<AvailableSlot> expected = new ArrayList<>();
+        for (Doctor doctor : doctors) {
+            if (!matches(doctor, specialty, location)) {
+                continue;
+            }
+            for (LocalDate date = from.toLocalDate(); !date.isAfter(from.toLocalDate().plusDays(90)); date = date.plusDays(1)) {
+                for (LocalTime time : system.getAvailableTimeSlots(doctor, date)) {
+                    if (!date.atTime(time).isBefore(from)) {
+                        expected.add(new AvailableSlot(doctor, date.atTime(time)));
+                    }
+                }
+            }
+        }
+        expected.sort(Comparator.comparing(AvailableSlot::schedule).thenComparing(slot -> slot.doctor().id()));
+        List<AvailableSlot> actual = system.findEarliestSlots(specialty, location, from, k);
+        String description = specialty + " @ " + location + " from " + from + " k=" + k;
+        assertEquals(describe(expected.subList(0, Math.min(k, expected.size()))), describe(actual), description);
+    }
+
+    private boolean matches(Doctor doctor, String specialty, String location) {
+        if (!Keys.folded(doctor.specialty()).equals(Keys.folded(specialty))) {
+            return false;
+        }
+        if (location == null) {
+            return true;
+        }
+        ClinicSite clinic = system.findClinic(doctor.clinicCode()).orElseThrow();
+        return Keys.of(clinic.code()).equals(Keys.of(location)) || Keys.folded(clinic.city()).equals(Keys.folded(location));
+    }
+
+    private static List<LocalDateTime> schedules(List<AvailableSlot> slots) {
+        List<LocalDateTime> result = new ArrayList<>();
+        for (AvailableSlot slot : slots) {
+            result.add(slot.schedule());
+        }
+        return result;
+    }
+
+    private static List<String> describe(List<AvailableSlot> slots) {
+        List<String> result = new ArrayList<>();
+        for (AvailableSlot slot : slots) {
+            result.add(slot.doctor().id() + "@" + slot.schedule());
+        }
+        return result;
+    }
+}
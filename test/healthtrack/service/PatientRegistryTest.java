@@ -0,0 +1,70 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import healthtrack.model.Patient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.doctor;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.patient;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatientRegistryTest {
+
+    private static final LocalDateTime SCHEDULE = monday(8, 20);
+    private static final Doctor SECOND = doctor("MED-2", "Pediatría");
+
+    private HealthSystem system;
+
+    @BeforeEach
+    void setUp() {
+        system = systemWith(DOCTOR, SECOND);
+    }
+
+    @Test
+    void documentsDifferingOnlyInCaseCannotBookTheSameTime() {
+        system.addAppointment(appointment("ab1", DOCTOR, SCHEDULE));
+
+        assertThrows(IllegalArgumentException.class, () -> system.addAppointment(appointment("AB1", SECOND, SCHEDULE)));
+        assertEquals(1, system.pendingAppointmentsOf("Ab1").size());
+        assertEquals(1, system.registeredAppointments().size());
+        assertTrue(system.cancelAppointment("AB1", SCHEDULE).isPresent());
+        assertTrue(system.pendingAppointmentsOf("ab1").isEmpty());
+    }
+
+    @Test
+    void attendedHistoryKeepsOnlyTheMostRecentVisits() {
+        int visits = PatientHistory.ATTENDED_LIMIT + 5;
+        List<LocalDateTime> schedules = new ArrayList<>();
+        for (int i = 0; i < visits; i++) {
+            LocalDateTime schedule = monday(8, 0).plusDays(i);
+            system.addAppointment(appointment("CC-1", DOCTOR, schedule));
+            system.attendAppointment("CC-1", schedule);
+            schedules.add(schedule);
+        }
+
+        List<Appointment> attended = system.attendedAppointmentsOf("CC-1");
+        assertEquals(PatientHistory.ATTENDED_LIMIT, attended.size());
+        assertEquals(schedules.subList(5, visits), attended.stream().map(Appointment::schedule).toList());
+        assertEquals(PatientHistory.ATTENDED_LIMIT, system.attendedAppointments().size());
+    }
+
+    @Test
+    void canonicalPatientDoesNotRegisterUntilABookingIsAccepted() {
+        Patient candidate = patient("CC-9");
+
+        assertEquals(candidate, system.canonicalPatient(candidate));
+        assertTrue(system.findPatient("CC-9").isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import healthtrack.model.Doctor;
+import healthtrack.model.PatientCategory;
+import healthtrack.model.PriorityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static healthtrack.Fixtures.CLINIC;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.everyDay;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.patient;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PreviewAppointmentsTest {
+
+    private static final LocalDateTime START = monday(8, 0);
+    private static final int BOOKED = 24;
+
+    private HealthSystem system;
+
+    @BeforeEach
+    void setUp() {
+        Doctor doctor = new Doctor("MED-1", "Laura Gómez", "Medicina General", CLINIC.code(),
+                everyDay(LocalTime.of(8, 0), LocalTime.of(18, 0)));
+        system = systemWith(doctor);
+        PatientCategory[] categories = PatientCategory.values();
+        for (int i = 0; i < BOOKED; i++) {
+            PatientCategory category = categories[categories.length - 1 - i % categories.length];
+            system.addAppointment(appointment(patient("CC-" + i, category), doctor, START.plusMinutes(20L * i)));
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        system.setAgingPolicy(AgingPolicy.none()
+                .promoteAfter(PriorityLevel.NINO, Duration.ofMinutes(10))
+                .withClock(Clock.fixed(START.plusHours(1).atZone(zone).toInstant(), zone)));
+    }
+
+    @Test
+    void previewStartsWithTheAppointmentServedNext() {
+        Appointment first = system.previewAppointments(1).get(0);
+
+        assertEquals(system.peekAppointment(), first);
+        assertEquals(PriorityLevel.NINO, first.priority());
+        assertNotEquals(system.query(AppointmentQuery.pending().limit(1)).get(0), first);
+    }
+
+    @Test
+    void cursorPagesContinueTheServingOrder() {
+        QueuePage page = system.previewAppointments(null, 5);
+        List<Appointment> walked = new ArrayList<>();
+        while (!page.isEmpty()) {
+            walked.addAll(page.appointments());
+            page = system.previewAppointments(page.next(), 5);
+        }
+
+        assertEquals(system.previewAppointments(BOOKED), walked);
+        assertEquals(BOOKED, new HashSet<>(walked).size());
+    }
+
+    @Test
+    void servingOrderMatchesSuccessivePolls() {
+        List<Appointment> preview = system.previewAppointments(BOOKED);
+        List<Appointment> polled = new ArrayList<>();
+        Appointment next;
+        while ((next = system.pollAppointment()) != null) {
+            polled.add(next);
+        }
+
+        assertEquals(preview, polled);
+    }
+
+    @Test
+    void cursorKeepsItsOrderWhenTheClockMovesOn() {
+        QueuePage first = system.previewAppointments(null, 3);
+        List<Appointment> expected = system.previewAppointments(BOOKED).subList(3, 6);
+        ZoneId zone = ZoneId.systemDefault();
+        system.setAgingPolicy(system.agingPolicy().withClock(Clock.fixed(START.plusDays(2).atZone(zone).toInstant(), zone)));
+
+        assertEquals(expected, system.previewAppointments(first.next(), 3).appointments());
+    }
+}
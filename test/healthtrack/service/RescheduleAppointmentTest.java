@@ -0,0 +1,103 @@
+package healthtrack.service;
+
+import healthtrack.model.Appointment;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static healthtrack.Fixtures.DOCTOR;
+import static healthtrack.Fixtures.MONDAY;
+import static healthtrack.Fixtures.appointment;
+import static healthtrack.Fixtures.monday;
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RescheduleAppointmentTest {
+
+    private final HealthSystem system = systemWith(DOCTOR);
+    private final Appointment original = appointment("CC-1", DOCTOR, monday(8, 0));
+
+    @Test
+    void movesTheAppointmentAndFreesTheOriginalSlot() {
+        system.addAppointment(original);
+
+        Appointment moved = system.rescheduleAppointment("CC-1", monday(8, 0), monday(9, 0));
+
+        assertEquals(monday(9, 0), moved.schedule());
+        assertEquals(List.of(moved), system.pendingAppointmentsOf("CC-1"));
+        assertEquals(List.of(moved), system.previewAppointments(10));
+        List<LocalTime> free = system.getAvailableTimeSlots(DOCTOR, MONDAY);
+        assertTrue(free.contains(LocalTime.of(8, 0)));
+        assertFalse(free.contains(LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void aTakenTargetSlotLeavesBothAppointmentsUntouched() {
+        Appointment other = appointment("CC-2", DOCTOR, monday(9, 0));
+        system.addAppointment(original);
+        system.addAppointment(other);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> system.rescheduleAppointment("CC-1", monday(8, 0), monday(9, 0)));
+
+        assertEquals(List.of(original), system.pendingAppointmentsOf("CC-1"));
+        assertEquals(List.of(other), system.pendingAppointmentsOf("CC-2"));
+        assertEquals(2, system.count(AppointmentQuery.pending()));
+    }
+
+    @Test
+    void anUnknownAppointmentCannotBeRescheduled() {
+        assertThrows(IllegalArgumentException.class,
+                () -> system.rescheduleAppointment("CC-1", monday(8, 0), monday(9, 0)));
+        assertEquals(0, system.count(AppointmentQuery.pending()));
+    }
+
+    @Test
+    void theNewSlotIsReleasedWhenTheOriginalWasAttendedMeanwhile() {
+        system.addAppointment(original);
+        interleave(() -> system.attendAppointment("CC-1", monday(8, 0)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> system.rescheduleAppointment("CC-1", monday(8, 0), monday(9, 0)));
+
+        assertEquals(List.of(), system.pendingAppointmentsOf("CC-1"));
+        assertEquals(List.of(original), system.attendedAppointmentsOf("CC-1"));
+        assertTrue(system.getAvailableTimeSlots(DOCTOR, MONDAY).contains(LocalTime.of(9, 0)));
+        assertEquals(0, system.count(AppointmentQuery.pending()));
+    }
+
+    @Test
+    void theNewSlotIsReleasedWhenTheOriginalWasCancelledMeanwhile() {
+        system.addAppointment(original);
+        interleave(() -> system.cancelAppointment("CC-1", monday(8, 0)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> system.rescheduleAppointment("CC-1", monday(8, 0), monday(9, 0)));
+
+        assertEquals(List.of(), system.pendingAppointmentsOf("CC-1"));
+        assertEquals(List.of(), system.attendedAppointmentsOf("CC-1"));
+        List<LocalTime> free = system.getAvailableTimeSlots(DOCTOR, MONDAY);
+        assertTrue(free.contains(LocalTime.of(8, 0)));
+        assertTrue(free.contains(LocalTime.of(9, 0)));
+        assertNull(system.peekAppointment());
+    }
+
+    private void interleave(Runnable concurrentChange) {
+        system.addListener(new HealthSystemListener() {
+            private boolean done;
+
+            @Override
+            public void awaitDurable() {
+                if (!done) {
+                    done = true;
+                    concurrentChange.run();
+                }
+            }
+        });
+    }
+}
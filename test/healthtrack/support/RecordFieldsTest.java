@@ -0,0 +1,29 @@
+package healthtrack.support;
+
+import healthtrack.service.HealthSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static healthtrack.Fixtures.systemWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordFieldsTest {
+
+    @Test
+    void rejectedAppointmentRowLeavesNoRegisteredPatient() {
+        HealthSystem system = systemWith();
+        Map<String, String> fields = new HashMap<>();
+        fields.put("document", "CC-1");
+        fields.put("name", "Juan Díaz");
+        fields.put("birthDate", "1980-01-01");
+        fields.put("doctorId", "MED-404");
+        fields.put("type", "GENERAL");
+        fields.put("schedule", "2025-01-06T08:20");
+
+        assertThrows(IllegalArgumentException.class, () -> RecordFields.appointment(fields, system));
+        assertTrue(system.findPatient("CC-1").isEmpty());
+    }
+}